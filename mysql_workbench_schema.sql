@@ -65,6 +65,7 @@ CREATE TABLE diary (
     analysis TEXT,
     title VARCHAR(255) NOT NULL,
     content TEXT NOT NULL,
+    thumbnail_img VARCHAR(500),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     modified_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id),
@@ -84,6 +85,7 @@ CREATE TABLE diary_images (
 -- 7. Chat 테이블
 CREATE TABLE chat (
     id INT AUTO_INCREMENT PRIMARY KEY,
+    last_seq BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     modified_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -122,6 +124,8 @@ CREATE TABLE board (
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     modified_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     sell BOOLEAN NOT NULL DEFAULT FALSE,
+    thumbnail_img VARCHAR(500),
+    INDEX idx_board_created_at_id (created_at, id),
     FOREIGN KEY (crop_id) REFERENCES crop(id),
     FOREIGN KEY (seller_id) REFERENCES users(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -169,7 +173,94 @@ CREATE TABLE ai_categories (
 ALTER TABLE users ADD CONSTRAINT fk_users_blockusers 
 FOREIGN KEY (block_user_id) REFERENCES block_users(id);
 
--- 16. 테이블 구조 확인
+-- 16. PointLedger 테이블 (포인트 거래 내역, 추가만 함)
+CREATE TABLE point_ledger (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id INT NOT NULL,
+    amount INT NOT NULL,
+    reason VARCHAR(30) NOT NULL,
+    ref_id INT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_point_ledger_user_id (user_id, id),
+    INDEX idx_point_ledger_created_at (created_at),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 17. PointSnapshot 테이블 (주기적으로 압축한 잔액)
+CREATE TABLE point_snapshot (
+    user_id INT PRIMARY KEY,
+    balance INT NOT NULL,
+    last_ledger_id BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 18. FileDeletionOutbox 테이블 (커밋 후 삭제할 파일)
+CREATE TABLE file_deletion_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    target VARCHAR(1000) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_file_deletion_next_attempt (next_attempt_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 19. 기존 DB: 목록 조회용 썸네일 컬럼 추가 (값은 서버 기동 시 board_image/diary_image에서 채움)
+-- ALTER TABLE board ADD COLUMN thumbnail_img VARCHAR(500);
+-- ALTER TABLE diary ADD COLUMN thumbnail_img VARCHAR(500);
+
+-- 20. BoardStats 테이블 (게시글 조회수, 서버에서 모아서 주기적으로 반영)
+CREATE TABLE board_stats (
+    board_id INT PRIMARY KEY,
+    view_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NULL,
+    INDEX idx_board_stats_view_count (view_count, board_id),
+    FOREIGN KEY (board_id) REFERENCES board(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 21. ChatRoomSummary 테이블 (채팅방 목록용 요약, 참여자별 한 행, 안 읽은 개수 = last_seq - chat_user.last_read_seq)
+CREATE TABLE chat_room_summary (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    chat_id INT NOT NULL,
+    user_id INT NOT NULL,
+    last_message_id INT NULL,
+    last_seq BIGINT NOT NULL DEFAULT 0,
+    last_sender_id INT NULL,
+    last_preview VARCHAR(100),
+    last_chat_img VARCHAR(500),
+    last_message_at TIMESTAMP NOT NULL,
+    UNIQUE KEY uk_chat_room_summary (chat_id, user_id),
+    INDEX idx_chat_room_summary_user_last (user_id, last_message_at),
+    FOREIGN KEY (chat_id) REFERENCES chat(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 22. 기존 DB: 채팅방별 메시지 순번 (id 순으로 1부터 채운 뒤 유니크 인덱스)
+-- ALTER TABLE chat_message ADD COLUMN seq BIGINT NULL;
+-- UPDATE chat_message m
+-- JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY chat_id ORDER BY id) AS rn FROM chat_message) x ON x.id = m.id
+-- SET m.seq = x.rn;
+-- CREATE UNIQUE INDEX uk_chat_message_chat_seq ON chat_message (chat_id, seq);
+-- ALTER TABLE chat ADD COLUMN last_seq BIGINT NOT NULL DEFAULT 0;
+-- UPDATE chat c SET last_seq = (SELECT COALESCE(MAX(m.seq), 0) FROM chat_message m WHERE m.chat_id = c.id);
+
+-- 23. 기존 DB: 참여자별 읽음 순번 (chat_message.is_read 는 더 이상 갱신하지 않음)
+-- ALTER TABLE chat_user ADD COLUMN last_read_seq BIGINT NULL;
+-- UPDATE chat_user cu SET last_read_seq = (
+--     SELECT MAX(m.seq) FROM chat_message m
+--     WHERE m.chat_id = cu.chat_id AND (m.sender_id = cu.user_id OR m.is_read = true));
+
+-- 기존 DB: 채팅방 요약 채우기 (22, 23 이후, 엔티티 기준 chat_user / chat_message 테이블)
+-- INSERT INTO chat_room_summary (chat_id, user_id, last_message_id, last_seq, last_sender_id, last_preview,
+--                                last_chat_img, last_message_at)
+-- SELECT cu.chat_id, cu.user_id, m.id, COALESCE(m.seq, 0), m.sender_id, LEFT(m.content, 100), m.chat_img,
+--        COALESCE(m.created_at, c.created_at)
+-- FROM chat_user cu
+-- JOIN chat c ON c.id = cu.chat_id
+-- LEFT JOIN chat_message m ON m.id = (SELECT MAX(x.id) FROM chat_message x WHERE x.chat_id = cu.chat_id);
+
+-- 24. 테이블 구조 확인
 SHOW TABLES;
 
 
@@ -0,0 +1,89 @@
+package com.planty.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+// 문자열용 블룸 필터 (동시 추가/조회 가능, 삭제 불가)
+// mightContain == false 면 확실히 없음, true 면 "있을 수도 있음"
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+    private final LongAdder insertions = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+
+        // 최적 비트 수 m = -n·ln(p) / (ln2)^2, 해시 수 k = m/n·ln2
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.numBits = Math.max(64, m);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * ln2));
+        this.bits = new AtomicLongArray((int) ((numBits + 63) / 64));
+    }
+
+    public void put(String value) {
+        if (value == null) return;
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            setBit(index(h1, h2, i));
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(String value) {
+        if (value == null) return false;
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            if (!getBit(index(h1, h2, i))) return false;
+        }
+        return true;
+    }
+
+    // 이중 해싱: h1 + i·h2
+    private long index(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        if (combined < 0) combined = ~combined;
+        return combined % numBits;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << (index & 63);
+        long prev;
+        do {
+            prev = bits.get(word);
+            if ((prev & mask) != 0) return;
+        } while (!bits.compareAndSet(word, prev, prev | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << (index & 63))) != 0;
+    }
+
+    // FNV-1a 64bit + 최종 믹싱
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= (h >>> 33);
+        return h;
+    }
+
+    public long getNumBits() { return numBits; }
+    public int getNumHashes() { return numHashes; }
+    public long getInsertions() { return insertions.sum(); }
+}
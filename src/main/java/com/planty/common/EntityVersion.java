@@ -0,0 +1,33 @@
+package com.planty.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+
+// 조건부 GET 검증값 (ETag + Last-Modified)
+// 본문 조립 전에 가벼운 버전 조회만으로 304 여부 판단
+public class EntityVersion {
+
+    private final String etag;
+    private final long lastModified;
+
+    private EntityVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public String getEtag() { return etag; }
+    public long getLastModified() { return lastModified; }
+
+    // 구성 요소 시각 중 가장 늦은 시각 + 추가 구분값(소유자 여부, 개수 등)으로 생성
+    public static EntityVersion of(String kind, Integer id, String variant, LocalDateTime... times) {
+        LocalDateTime latest = null;
+        for (LocalDateTime t : times) {
+            if (t != null && (latest == null || t.isAfter(latest))) latest = t;
+        }
+        long millis = (latest == null) ? 0L : latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String etag = "\"" + kind + id + "-" + Long.toHexString(millis) + "-" + Objects.toString(variant, "") + "\"";
+        return new EntityVersion(etag, millis);
+    }
+}
@@ -0,0 +1,69 @@
+package com.planty.common;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+
+// 검색용 n-gram 토크나이저 (한글은 형태소 분석 없이 2-gram으로 부분 일치 처리)
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {}
+
+    // 정규화 (NFKC + 소문자 + 공백 정리), 자동완성 키로 사용
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.trim().replaceAll("\\s+", " ");
+    }
+
+    // 정규화 (NFKC + 소문자) 후 글자/숫자 단위 단어로 분리
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) return words;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            } else if (sb.length() > 0) {
+                words.add(sb.toString());
+                sb.setLength(0);
+            }
+        }
+        if (sb.length() > 0) words.add(sb.toString());
+        return words;
+    }
+
+    // 문서 토큰: 1-gram + 2-gram (한 글자 검색어도 찾을 수 있도록)
+    public static Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 2 <= word.length()) tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어 토큰: 한 글자 단어는 1-gram, 그 외는 2-gram만
+    public static Set<String> queryTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,86 @@
+package com.planty.common;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+
+// 상대 오차 보장 분위수 스케치 (로그 구간 히스토그램, DDSketch 방식)
+// 값 v 는 gamma^(i-1) < v <= gamma^i 인 구간 i 에 세고, 분위수는 구간 대표값으로 추정 (상대 오차 <= alpha)
+// 구간 개수만 더하고 빼므로 병합(merge)과 삭제(remove)가 정확함, 0 이하 값은 별도 구간
+// 스레드 안전하지 않음 (호출 측에서 잠금)
+public class QuantileSketch {
+
+    private final double alpha;
+    private final double logGamma;
+    private final TreeMap<Integer, Long> bins = new TreeMap<>();
+    private long zeroCount = 0;
+    private long count = 0;
+    private long sum = 0;
+
+    public QuantileSketch(double relativeAccuracy) {
+        this.alpha = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+
+    public void add(long value) {
+        adjust(value, 1);
+    }
+
+    public void remove(long value) {
+        adjust(value, -1);
+    }
+
+    private void adjust(long value, long delta) {
+        if (value <= 0) {
+            zeroCount += delta;
+        } else {
+            bins.merge(indexOf(value), delta, (a, b) -> (a + b) == 0 ? null : a + b);
+        }
+        count += delta;
+        sum += value * delta;
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.alpha != alpha) throw new IllegalArgumentException("relative accuracy mismatch");
+        other.bins.forEach((i, n) -> bins.merge(i, n, (a, b) -> (a + b) == 0 ? null : a + b));
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    // q 분위수 추정값 (비어 있으면 null)
+    public Double quantile(double q) {
+        if (count <= 0) return null;
+        long rank = (long) Math.floor(q * (count - 1));
+
+        long seen = zeroCount;
+        if (rank < seen) return 0.0;
+        for (Map.Entry<Integer, Long> e : bins.entrySet()) {
+            seen += e.getValue();
+            if (rank < seen) return valueOf(e.getKey());
+        }
+        return valueOf(bins.lastKey());
+    }
+
+    public int getBinCount() {
+        return bins.size() + (zeroCount > 0 ? 1 : 0);
+    }
+
+    private int indexOf(long value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    // 구간 대표값 2·gamma^i / (gamma + 1) → 구간 안 어떤 값과도 상대 오차 alpha 이내
+    private double valueOf(int index) {
+        double gamma = Math.exp(logGamma);
+        return 2 * Math.exp(index * logGamma) / (gamma + 1);
+    }
+}
@@ -0,0 +1,180 @@
+package com.planty.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+
+// 읽기 통과 캐시 (크기 + TTL 제한, 같은 키 동시 미스는 한 번만 로딩)
+// 로딩 중에 무효화된 항목은 로딩이 끝나도 캐시에 남지 않음, 다른 요청의 로딩은 loadTimeout 까지만 기다림
+public class ReadThroughCache<K, V> {
+
+    private static final long DEFAULT_LOAD_TIMEOUT_MILLIS = 10_000;
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long loadTimeoutMillis;
+    private final ConcurrentHashMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder loadTimeouts = new LongAdder();
+
+    public ReadThroughCache(String name, int maxSize, long ttlMillis) {
+        this(name, maxSize, ttlMillis, DEFAULT_LOAD_TIMEOUT_MILLIS);
+    }
+
+    public ReadThroughCache(String name, int maxSize, long ttlMillis, long loadTimeoutMillis) {
+        this.name = name;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.loadTimeoutMillis = loadTimeoutMillis;
+    }
+
+    private static final class Entry<V> {
+        final CompletableFuture<V> value = new CompletableFuture<>();
+        volatile long loadedAt;
+        volatile long lastAccess = System.nanoTime();
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = map.get(key);
+
+        // 만료된 항목 제거 (로딩 중인 항목은 제외)
+        if (entry != null && entry.value.isDone() && now - entry.loadedAt > ttlNanos) {
+            if (map.remove(key, entry)) expirations.increment();
+            entry = null;
+        }
+
+        if (entry != null) {
+            hits.increment();
+            entry.lastAccess = now;
+            return join(entry);
+        }
+
+        // 미스: 먼저 등록한 요청만 로딩, 나머지는 그 결과를 기다림
+        Entry<V> created = new Entry<>();
+        Entry<V> existing = map.putIfAbsent(key, created);
+        if (existing != null) {
+            hits.increment();
+            existing.lastAccess = now;
+            return join(existing);
+        }
+
+        misses.increment();
+        try {
+            V value = loader.get();
+            created.loadedAt = System.nanoTime();
+            created.value.complete(value);
+            if (map.size() > maxSize) evict();
+            return value;
+        } catch (Throwable e) {
+            // 실패는 캐시하지 않음 (Error 도 기다리는 요청에 전달해 영원히 대기하지 않게)
+            loadFailures.increment();
+            map.remove(key, created);
+            created.value.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 다른 요청의 로딩 결과 대기 (시간 초과 시 503, 로딩은 계속되고 결과는 다음 요청이 사용)
+    private V join(Entry<V> entry) {
+        try {
+            return entry.value.get(loadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            loadTimeouts.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "LOAD_TIMEOUT");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 크기 초과 시: 만료 항목 먼저, 그래도 넘치면 가장 오래 안 쓴 항목부터 제거
+    private void evict() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<V> e = it.next().getValue();
+            if (e.value.isDone() && now - e.loadedAt > ttlNanos) {
+                it.remove();
+                expirations.increment();
+            }
+        }
+        while (map.size() > maxSize) {
+            K oldest = null;
+            long oldestAccess = Long.MAX_VALUE;
+            for (Map.Entry<K, Entry<V>> e : map.entrySet()) {
+                if (e.getValue().value.isDone() && e.getValue().lastAccess < oldestAccess) {
+                    oldestAccess = e.getValue().lastAccess;
+                    oldest = e.getKey();
+                }
+            }
+            if (oldest == null || map.remove(oldest) == null) break;
+            evictions.increment();
+        }
+    }
+
+    public void invalidate(K key) {
+        if (map.remove(key) != null) invalidations.increment();
+    }
+
+    // 조건에 맞는 항목 무효화
+    // 로딩 중인 항목은 값을 검사할 수 없으므로 함께 제거 (변경 전 데이터로 로딩됐을 수 있어 완료돼도 남기지 않음)
+    public void invalidateIf(BiPredicate<K, V> predicate) {
+        map.entrySet().removeIf(e -> {
+            CompletableFuture<V> f = e.getValue().value;
+            boolean match = !f.isDone()
+                    || (!f.isCompletedExceptionally() && predicate.test(e.getKey(), f.join()));
+            if (match) invalidations.increment();
+            return match;
+        });
+    }
+
+    public void invalidateAll() {
+        invalidations.add(map.size());
+        map.clear();
+    }
+
+    // 지표
+    public Map<String, Object> getStats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("hitRatio", (h + m) == 0 ? 0.0 : (double) h / (h + m));
+        stats.put("loadFailures", loadFailures.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("loadTimeouts", loadTimeouts.sum());
+        stats.put("size", map.size());
+        stats.put("maxSize", maxSize);
+        stats.put("ttlMillis", ttlNanos / 1_000_000L);
+        return stats;
+    }
+}
@@ -0,0 +1,14 @@
+package com.planty.common;
+
+import java.util.Map;
+
+
+// 내부 지표 제공자 (각 하위 시스템이 구현, /api/metrics/{statsName} 로 조회)
+public interface StatsSource {
+
+    // 지표 이름 (URL 경로, 소문자-하이픈)
+    String statsName();
+
+    // 지표 값
+    Map<String, Object> getStats();
+}
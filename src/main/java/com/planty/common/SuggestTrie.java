@@ -0,0 +1,135 @@
+package com.planty.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+
+// 자동완성용 트라이 (노드마다 빈도 상위 K개 결과를 미리 보관 → 조회는 접두어 길이만큼만 이동)
+// 스레드 안전하지 않음 (호출 측에서 잠금)
+public class SuggestTrie {
+
+    private static final Comparator<Node> BY_COUNT =
+            Comparator.comparingInt((Node n) -> n.count).reversed()
+                    .thenComparing(n -> n.display);
+
+    private final int topK;
+    private final Node root = new Node();
+    private int terms = 0;
+
+    public SuggestTrie(int topK) {
+        this.topK = Math.max(1, topK);
+    }
+
+    public record Suggestion(String term, int count) {}
+
+    private static final class Node {
+        char[] keys = new char[0];      // 정렬된 자식 문자
+        Node[] children = new Node[0];
+        String display;                 // 단어 끝 노드일 때 원래 표기
+        int count;                      // 단어 끝 노드일 때 빈도
+        List<Node> top = List.of();     // 하위 단어 중 빈도 상위 K개
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return children[i];
+            int at = -i - 1;
+            char[] k = new char[keys.length + 1];
+            Node[] ch = new Node[children.length + 1];
+            System.arraycopy(keys, 0, k, 0, at);
+            System.arraycopy(children, 0, ch, 0, at);
+            System.arraycopy(keys, at, k, at + 1, keys.length - at);
+            System.arraycopy(children, at, ch, at + 1, children.length - at);
+            Node n = new Node();
+            k[at] = c;
+            ch[at] = n;
+            keys = k;
+            children = ch;
+            return n;
+        }
+    }
+
+    // 일괄 적재용 추가 (상위 K 목록은 computeTopK() 에서 한 번에 계산)
+    public void put(String key, String display, int count) {
+        if (key == null || key.isEmpty() || count <= 0) return;
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) node = node.childOrCreate(key.charAt(i));
+        if (node.count == 0) terms++;
+        node.display = display;
+        node.count += count;
+    }
+
+    // 모든 노드의 상위 K 목록 계산 (후위 순회)
+    public void computeTopK() {
+        computeTopK(root);
+    }
+
+    private List<Node> computeTopK(Node node) {
+        List<Node> candidates = new ArrayList<>();
+        if (node.count > 0) candidates.add(node);
+        for (Node child : node.children) candidates.addAll(computeTopK(child));
+        candidates.sort(BY_COUNT);
+        node.top = candidates.size() > topK
+                ? new ArrayList<>(candidates.subList(0, topK))
+                : candidates;
+        return node.top;
+    }
+
+    // 증분 반영 (빈도 증감), 경로상의 상위 K 목록만 갱신
+    // 빈도가 줄어 목록에서 빠진 자리는 다음 전체 재구성 때 채워짐
+    public void adjust(String key, String display, int delta) {
+        if (key == null || key.isEmpty() || delta == 0) return;
+
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = (delta > 0) ? node.childOrCreate(key.charAt(i)) : node.child(key.charAt(i));
+            if (node == null) return;
+            path[i + 1] = node;
+        }
+
+        int before = node.count;
+        node.count = Math.max(0, node.count + delta);
+        if (display != null && node.count > 0) node.display = display;
+        if (before == 0 && node.count > 0) terms++;
+        if (before > 0 && node.count == 0) terms--;
+
+        for (Node p : path) {
+            List<Node> top = new ArrayList<>(p.top);
+            top.remove(node);
+            if (node.count > 0) {
+                int at = 0;
+                while (at < top.size() && BY_COUNT.compare(top.get(at), node) < 0) at++;
+                if (at < topK) top.add(at, node);
+            }
+            if (top.size() > topK) top = new ArrayList<>(top.subList(0, topK));
+            p.top = top;
+        }
+    }
+
+    // 접두어로 시작하는 단어 (빈도순)
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty()) return List.of();
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) node = node.child(prefix.charAt(i));
+        if (node == null) return List.of();
+
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, node.top.size()));
+        for (Node n : node.top) {
+            if (result.size() >= limit) break;
+            result.add(new Suggestion(n.display, n.count));
+        }
+        return result;
+    }
+
+    public int size() {
+        return terms;
+    }
+}
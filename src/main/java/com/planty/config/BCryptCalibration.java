@@ -0,0 +1,90 @@
+package com.planty.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+// 서버 CPU 기준 BCrypt 강도 보정 결과
+@Slf4j
+@Getter
+public class BCryptCalibration {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password-1234";
+
+    private final int strength;          // 선택된 강도 (log2 라운드)
+    private final long measuredMillis;   // 선택된 강도의 1회 해시 시간
+    private final long targetMillis;     // 목표 해시 시간
+    private final int minStrength;
+    private final int maxStrength;
+    private final LocalDateTime calibratedAt;
+
+    private BCryptCalibration(int strength, long measuredMillis, long targetMillis,
+                              int minStrength, int maxStrength) {
+        this.strength = strength;
+        this.measuredMillis = measuredMillis;
+        this.targetMillis = targetMillis;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+        this.calibratedAt = LocalDateTime.now();
+    }
+
+    // 목표 시간 이하가 되는 가장 높은 강도 선택 (최소 강도 아래로는 내려가지 않음)
+    public static BCryptCalibration calibrate(long targetMillis, int minStrength, int maxStrength) {
+        // 1) 최소 강도에서 측정
+        long baseNanos = measureNanos(minStrength);
+
+        // 2) 강도 +1 마다 시간이 2배 → 목표 이하인 최대 강도 추정
+        int strength = minStrength;
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        long expected = Math.max(baseNanos, 1);
+        while (strength < maxStrength && expected * 2 <= targetNanos) {
+            strength++;
+            expected *= 2;
+        }
+
+        // 3) 선택된 강도 실측 (추정이 크게 빗나가면 한 단계 낮춤)
+        long measured = (strength == minStrength) ? baseNanos : measureNanos(strength);
+        if (strength > minStrength && measured > targetNanos * 3 / 2) {
+            strength--;
+            measured = measureNanos(strength);
+        }
+
+        BCryptCalibration result = new BCryptCalibration(
+                strength, TimeUnit.NANOSECONDS.toMillis(measured), targetMillis, minStrength, maxStrength);
+        log.info("BCrypt 강도 보정 완료: strength={}, measured={}ms, target={}ms",
+                result.strength, result.measuredMillis, targetMillis);
+        return result;
+    }
+
+    // 워밍업 1회 후 3회 중 최소 시간
+    private static long measureNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    // 지표 응답용
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("strength", strength);
+        map.put("measuredMillis", measuredMillis);
+        map.put("targetMillis", targetMillis);
+        map.put("minStrength", minStrength);
+        map.put("maxStrength", maxStrength);
+        map.put("calibratedAt", calibratedAt.toString());
+        return map;
+    }
+}
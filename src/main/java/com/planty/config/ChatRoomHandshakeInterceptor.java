@@ -0,0 +1,76 @@
+package com.planty.config;
+
+import com.planty.config.jwt.JwtProvider;
+import com.planty.service.chat.ChatSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import java.util.List;
+import java.util.Map;
+
+
+// 채팅 웹소켓 핸드셰이크 인증
+// Authorization 헤더로 이미 인증된 요청은 그대로, 헤더를 못 붙이는 브라우저는 서브프로토콜로 JWT 전달
+//   new WebSocket(url, ["bearer", token]) → Sec-WebSocket-Protocol: bearer, <token> (URL 에 토큰을 넣지 않아 로그에 남지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String BEARER_PROTOCOL = "bearer";
+
+    private final JwtProvider jwtProvider;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Integer userId = authenticatedUserId(request);
+        if (userId == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(ChatSessionRegistry.ATTR_USER_ID, userId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private Integer authenticatedUserId(ServerHttpRequest request) {
+        if (request.getPrincipal() instanceof Authentication auth
+                && auth.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+
+        String token = protocolToken(request.getHeaders().get("Sec-WebSocket-Protocol"));
+        if (token == null) return null;
+        try {
+            return jwtProvider.getUid(jwtProvider.parseClaims(token.trim()));
+        } catch (Exception e) {
+            log.debug("[WS] 토큰 검증 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // "bearer, <token>" 에서 토큰 꺼내기
+    private static String protocolToken(List<String> headers) {
+        if (headers == null) return null;
+        boolean next = false;
+        for (String header : headers) {
+            for (String value : header.split(",")) {
+                String v = value.trim();
+                if (next) return v.isEmpty() ? null : v;
+                if (BEARER_PROTOCOL.equalsIgnoreCase(v)) next = true;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.planty.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planty.repository.chat.ChatUserRepository;
+import com.planty.service.chat.ChatPushService;
+import com.planty.service.chat.ChatService;
+import com.planty.service.chat.ChatSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.List;
+import java.util.Map;
+
+
+// 사용자 간 채팅 웹소켓 (/ws/chats)
+// 받는 메시지: {"type":"subscribe"|"unsubscribe","chatId":1}, {"type":"send","chatId":1,"content":"..."},
+//            {"type":"sync","chatId":1,"afterSeq":10}, {"type":"ping"}
+// 보내는 메시지: {"type":"message","message":{...}}, {"type":"history","chatId":1,"history":{...}},
+//            {"type":"subscribed"|"unsubscribed","chatId":1}, {"type":"pong"}, {"type":"error","code":"..."}
+// 클라이언트는 받은 message.seq 가 마지막으로 본 순번 + 1 이 아니면 sync 로 빠진 메시지만 다시 받음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
+
+    private final ChatSessionRegistry registry;
+    private final ChatPushService chatPushService;
+    private final ChatService chatService;
+    private final ChatUserRepository chatUserRepository;
+    private final ObjectMapper objectMapper;
+
+    // 토큰을 실어 보내는 서브프로토콜 (응답에는 "bearer" 만 돌려줌)
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(ChatRoomHandshakeInterceptor.BEARER_PROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        registry.register(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession raw, TextMessage message) {
+        WebSocketSession session = registry.get(raw.getId());
+        if (session == null) return;
+        Integer userId = ChatSessionRegistry.userIdOf(session);
+
+        JsonNode body;
+        try {
+            body = objectMapper.readTree(message.getPayload());
+        } catch (Exception e) {
+            reply(session, Map.of("type", "error", "code", "INVALID_MESSAGE"));
+            return;
+        }
+        String type = body.path("type").asText("");
+        Long chatId = body.hasNonNull("chatId") ? body.get("chatId").asLong() : null;
+
+        switch (type) {
+            case "subscribe" -> {
+                if (chatId == null || !chatUserRepository.existsByChatIdAndUserId(chatId, userId)) {
+                    reply(session, Map.of("type", "error", "code", "FORBIDDEN"));
+                    return;
+                }
+                registry.subscribe(session, chatId);
+                reply(session, Map.of("type", "subscribed", "chatId", chatId));
+            }
+            case "unsubscribe" -> {
+                if (chatId != null) registry.unsubscribe(session, chatId);
+                reply(session, Map.of("type", "unsubscribed", "chatId", chatId == null ? 0 : chatId));
+            }
+            case "send" -> {
+                String content = body.path("content").asText("");
+                if (chatId == null || content.isBlank()) {
+                    reply(session, Map.of("type", "error", "code", "INVALID_MESSAGE"));
+                    return;
+                }
+                try {
+                    // 저장 커밋 후 ChatPushService 가 보낸 사람 포함 참여자에게 전송
+                    chatService.sendMessage(chatId, userId, content);
+                } catch (RuntimeException e) {
+                    log.debug("[WS] 메시지 저장 실패: chatId={}, userId={}, {}", chatId, userId, e.getMessage());
+                    reply(session, Map.of("type", "error", "code", "SEND_FAILED"));
+                }
+            }
+            case "sync" -> {
+                if (chatId == null) {
+                    reply(session, Map.of("type", "error", "code", "INVALID_MESSAGE"));
+                    return;
+                }
+                long afterSeq = body.path("afterSeq").asLong(0);
+                try {
+                    reply(session, Map.of("type", "history", "chatId", chatId,
+                            "history", chatService.getChatHistory(chatId, userId, null, afterSeq, null)));
+                } catch (RuntimeException e) {
+                    reply(session, Map.of("type", "error", "code", "FORBIDDEN"));
+                }
+            }
+            case "ping" -> reply(session, Map.of("type", "pong"));
+            default -> reply(session, Map.of("type", "error", "code", "UNKNOWN_TYPE"));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        registry.unregister(session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        registry.unregister(session.getId());
+    }
+
+    private void reply(WebSocketSession session, Map<String, Object> body) {
+        TextMessage text = chatPushService.toText(body);
+        if (text != null) registry.send(session, text);
+    }
+}
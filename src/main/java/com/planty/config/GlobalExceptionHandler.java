@@ -77,6 +77,11 @@ public class GlobalExceptionHandler {
             case "NOT_ENOUGH_POINT" -> "포인트가 부족합니다.";
             case "INVALID_PASSWORD" -> "비밀번호가 일치하지 않습니다.";
             case "CONSTRAINT_VIOLATION" -> "데이터 무결성 위반";
+            case "INVALID_CURSOR" -> "잘못된 페이지 커서입니다.";
+            case "INVALID_PRICE_RANGE" -> "최소 가격이 최대 가격보다 클 수 없습니다.";
+            case "INVALID_READ_POSITION" -> "잘못된 읽음 위치입니다.";
+            case "TOO_MANY_REQUESTS" -> "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+            case "LOAD_TIMEOUT" -> "요청 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.";
             default -> "요청을 처리할 수 없습니다.";
         };
         return ApiError.of(ex.getStatusCode().value(), code != null ? code : "ERROR", msg);
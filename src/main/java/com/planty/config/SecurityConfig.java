@@ -3,22 +3,29 @@ package com.planty.config;
 import com.planty.config.jwt.JwtAuthenticationFilter;
 import com.planty.config.jwt.JwtProvider;
 import com.planty.service.user.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 
@@ -27,25 +34,50 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // 허용 주소 (CORS, 채팅 웹소켓 공통)
+    public static final List<String> ALLOWED_ORIGIN_PATTERNS = List.of("http://localhost:*", "http://127.0.0.1:*");
+
     private final UserService userService;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final JwtProvider jwtProvider;
+    private final boolean jwtLegacyDbLookup;
+    private final List<IpAddressMatcher> metricsAllowedIps;
 
     public SecurityConfig(UserService userService,
                           CustomAccessDeniedHandler accessDeniedHandler,
                           CustomAuthenticationEntryPoint authenticationEntryPoint,
-                          JwtProvider jwtProvider) {
+                          JwtProvider jwtProvider,
+                          @Value("${jwt.legacy-db-lookup:true}") boolean jwtLegacyDbLookup,
+                          @Value("${security.metrics.allowed-ips:127.0.0.1/32,::1/128}") List<String> metricsAllowedIps) {
         this.userService = userService;
         this.accessDeniedHandler = accessDeniedHandler;
         this.authenticationEntryPoint = authenticationEntryPoint;
         this.jwtProvider = jwtProvider;
+        this.jwtLegacyDbLookup = jwtLegacyDbLookup;
+        this.metricsAllowedIps = metricsAllowedIps.stream().map(String::trim).map(IpAddressMatcher::new).toList();
+    }
+
+    // 시작 시 BCrypt 강도 보정 (목표 해시 시간 기준)
+    @Bean
+    public BCryptCalibration bcryptCalibration(
+            @Value("${security.bcrypt.target-millis:80}") long targetMillis,
+            @Value("${security.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.bcrypt.max-strength:14}") int maxStrength
+    ) {
+        return BCryptCalibration.calibrate(targetMillis, minStrength, maxStrength);
     }
 
     // 비밀번호 해시 저장
+    // {bcrypt} 접두사로 저장, 접두사 없는 기존 해시도 비교 가능 (로그인 시 현재 강도로 재해시)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(BCryptCalibration bcryptCalibration) {
+        String idForEncode = "bcrypt";
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptCalibration.getStrength());
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, Map.of(idForEncode, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     // 인증 처리기를 인증 로직에서 호출
@@ -79,10 +111,17 @@ public class SecurityConfig {
                         // 인증 없이 접근 가능한 공개 API
                         .requestMatchers("/api/users/signup").permitAll()
                         .requestMatchers("/api/users/login").permitAll()
+                        .requestMatchers("/api/users/availability").permitAll()
+
+                        // 채팅 웹소켓 (핸드셰이크 인터셉터에서 토큰 검증)
+                        .requestMatchers("/ws/chats").permitAll()
 
                         // 어드민 보호
                         .requestMatchers("/api/admin/**").denyAll()
 
+                        // 내부 지표는 허용된 주소(모니터링, 로컬)에서만
+                        .requestMatchers("/api/metrics", "/api/metrics/**").access(internalOnly())
+
                         // 나머진 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -99,13 +138,19 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 요청 주소가 지표 허용 대역에 있을 때만
+    private AuthorizationManager<RequestAuthorizationContext> internalOnly() {
+        return (authentication, context) -> new AuthorizationDecision(
+                metricsAllowedIps.stream().anyMatch(m -> m.matches(context.getRequest())));
+    }
+
     // CORS 설정
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
 
         // 허용 주소 설정
-        config.setAllowedOriginPatterns(List.of("http://localhost:*", "http://127.0.0.1:*"));
+        config.setAllowedOriginPatterns(ALLOWED_ORIGIN_PATTERNS);
 
         // 허용 메서드 설정
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
@@ -129,6 +174,6 @@ public class SecurityConfig {
     // 필터 빈 등록
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtProvider, userService);
+        return new JwtAuthenticationFilter(jwtProvider, userService, jwtLegacyDbLookup);
     }
 }
@@ -11,14 +11,25 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 public class WebSocketConfig implements WebSocketConfigurer {
 
     private final ChatWebSocketHandler chatWebSocketHandler;
+    private final ChatRoomWebSocketHandler chatRoomWebSocketHandler;
+    private final ChatRoomHandshakeInterceptor chatRoomHandshakeInterceptor;
 
-    public WebSocketConfig(ChatWebSocketHandler chatWebSocketHandler) {
+    public WebSocketConfig(ChatWebSocketHandler chatWebSocketHandler,
+                           ChatRoomWebSocketHandler chatRoomWebSocketHandler,
+                           ChatRoomHandshakeInterceptor chatRoomHandshakeInterceptor) {
         this.chatWebSocketHandler = chatWebSocketHandler;
+        this.chatRoomWebSocketHandler = chatRoomWebSocketHandler;
+        this.chatRoomHandshakeInterceptor = chatRoomHandshakeInterceptor;
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry.addHandler(chatWebSocketHandler, "/ws/chat")
                 .setAllowedOrigins("*");
+
+        // 사용자 간 채팅 (핸드셰이크에서 JWT 인증)
+        registry.addHandler(chatRoomWebSocketHandler, "/ws/chats")
+                .addInterceptors(chatRoomHandshakeInterceptor)
+                .setAllowedOriginPatterns(SecurityConfig.ALLOWED_ORIGIN_PATTERNS.toArray(String[]::new));
     }
 }
@@ -1,6 +1,7 @@
 package com.planty.config.jwt;
 
 import com.planty.config.CustomUserDetails;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -16,6 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.AntPathMatcher;
@@ -26,16 +28,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final UserDetailsService userDetailsService;
+    private final boolean legacyDbLookup;   // PK 클레임 없는 (이전 발급) 토큰은 DB 조회로 처리
     private final Set<String> whitelist = Set.of(
             "/api/users/login",
-            "/api/users/signup"
+            "/api/users/signup",
+            "/api/users/availability"
     );
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     public JwtAuthenticationFilter(JwtProvider jwtProvider, UserDetailsService userDetailsService) {
+        this(jwtProvider, userDetailsService, true);
+    }
+
+    public JwtAuthenticationFilter(JwtProvider jwtProvider,
+                                   UserDetailsService userDetailsService,
+                                   boolean legacyDbLookup) {
         this.jwtProvider = jwtProvider;
         this.userDetailsService = userDetailsService;
+        this.legacyDbLookup = legacyDbLookup;
     }
 
     // 화이트리스트 + OPTIONS 스킵
@@ -75,10 +86,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             try {
                 // 1) 토큰 파싱
-                String userId = jwtProvider.getSubject(token);
-
-                // 2) 유저 로드
-                CustomUserDetails user = (CustomUserDetails) userDetailsService.loadUserByUsername(userId);
+                Claims claims = jwtProvider.parseClaims(token);
+                String userId = claims.getSubject();
+                Integer uid = jwtProvider.getUid(claims);
+
+                // 2) 유저 정보 구성 (검증된 클레임 → DB 조회 없음, 이전 토큰은 DB 조회)
+                CustomUserDetails user;
+                if (uid != null) {
+                    user = new CustomUserDetails(uid, userId, null, Collections.emptyList());
+                } else if (legacyDbLookup) {
+                    user = (CustomUserDetails) userDetailsService.loadUserByUsername(userId);
+                } else {
+                    throw new MalformedJwtException("uid 클레임이 없는 토큰");
+                }
 
                 // 3) 컨텍스트 설정
                 var auth = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
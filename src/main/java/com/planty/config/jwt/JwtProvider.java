@@ -1,5 +1,9 @@
 package com.planty.config.jwt;
 
+import com.planty.common.StatsSource;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -10,25 +14,58 @@ import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 
 // JWT 발급 및 파싱
 @Component
-public class JwtProvider {
+public class JwtProvider implements StatsSource {
+
+    // PK 클레임 이름
+    public static final String CLAIM_UID = "uid";
 
     private final String secretRaw;
     private final long accessExpMillis;
+    private final int cacheMaxSize;
     private Key key;
+    private JwtParser parser;   // 키 고정이므로 한 번만 생성
+
+    // 검증 완료된 토큰 캐시 (토큰 해시 → 클레임, exp 시각에 만료)
+    // 만료 순서 색인으로 가득 차면 가장 먼저 만료되는 항목부터 제거 (조회는 잠금 없음, 저장/제거는 O(log n))
+    private final Map<String, VerifiedToken> verifiedCache = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<ExpiryKey, String> byExpiry = new ConcurrentSkipListMap<>();
+    private final AtomicLong insertions = new AtomicLong();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    // 토큰 해시용 (MessageDigest는 스레드 안전하지 않음)
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
 
     // jwt.secret, jwt.access-exp-millis 필드에 저장
     public JwtProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.access-exp-millis}") long accessExpMillis
+            @Value("${jwt.access-exp-millis}") long accessExpMillis,
+            @Value("${jwt.cache.max-size:10000}") int cacheMaxSize
     ) {
         this.secretRaw = secret;
         this.accessExpMillis = accessExpMillis;
+        this.cacheMaxSize = cacheMaxSize;
     }
 
     // Base64 형태인지 판별 (문자셋+패딩)
@@ -58,6 +95,9 @@ public class JwtProvider {
 
         // HMAC-SHA용 Key 객체로 변환
         this.key = Keys.hmacShaKeyFor(keyBytes);
+
+        // 검증용 파서 (스레드 안전, 재사용)
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // Base64 문자열 판별
@@ -69,11 +109,20 @@ public class JwtProvider {
 
     // JWT 액세스 토큰 발급
     public String createAccessToken(String userId) {  // Long → String
+        return createAccessToken(null, userId);
+    }
+
+    // JWT 액세스 토큰 발급 (PK 클레임 포함 → 인증 시 DB 조회 생략)
+    public String createAccessToken(Integer id, String userId) {
         Date now = new Date();
-        return Jwts.builder()
+        var builder = Jwts.builder()
                 .setSubject(userId) // 문자열 user_id
                 .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + accessExpMillis))
+                .setExpiration(new Date(now.getTime() + accessExpMillis));
+
+        if (id != null) builder.claim(CLAIM_UID, id);
+
+        return builder
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -81,9 +130,92 @@ public class JwtProvider {
 
     // 토큰 검증 및 userId 반환
     public String getSubject(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
+    }
+
+    // 토큰 검증 및 클레임 반환 (검증 결과 캐시 사용)
+    public Claims parseClaims(String token) {
+        String hash = hash(token);
+        long now = System.currentTimeMillis();
+
+        // 1) 캐시 조회 (exp 지난 항목은 제거 후 재검증 → ExpiredJwtException)
+        VerifiedToken cached = verifiedCache.get(hash);
+        if (cached != null) {
+            if (cached.expMillis() > now) {
+                cacheHits.increment();
+                return cached.claims();
+            }
+            if (verifiedCache.remove(hash, cached)) byExpiry.remove(cached.key());
+        }
+        cacheMisses.increment();
+
+        // 2) 서명 검증 및 파싱
+        Claims claims = parser.parseClaimsJws(token).getBody();
+
+        // 3) 만료 시각이 있는 토큰만 캐시 (넘치면 만료 순으로 제거)
+        Date exp = claims.getExpiration();
+        if (exp != null) {
+            VerifiedToken entry = new VerifiedToken(claims, exp.getTime(),
+                    new ExpiryKey(exp.getTime(), insertions.incrementAndGet()));
+            VerifiedToken previous = verifiedCache.put(hash, entry);
+            if (previous != null) byExpiry.remove(previous.key());
+            byExpiry.put(entry.key(), hash);
+            evict(now);
+        }
+        return claims;
+    }
+
+    // 만료된 항목과 용량을 넘친 만큼 가장 먼저 만료되는 항목 제거
+    private void evict(long now) {
+        while (true) {
+            Map.Entry<ExpiryKey, String> first = byExpiry.firstEntry();
+            if (first == null) return;
+            if (first.getKey().expMillis() > now && verifiedCache.size() <= cacheMaxSize) return;
+            if (!byExpiry.remove(first.getKey(), first.getValue())) continue;   // 다른 스레드가 먼저 제거
+            verifiedCache.computeIfPresent(first.getValue(), (k, v) -> v.key().equals(first.getKey()) ? null : v);
+        }
+    }
+
+    // 토큰 원문 대신 해시를 키로 사용
+    private String hash(String token) {
+        byte[] digest = SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    @Override
+    public String statsName() {
+        return "jwt-cache";
+    }
+
+    // 캐시 지표 (히트/미스/크기)
+    @Override
+    public Map<String, Object> getStats() {
+        long hits = cacheHits.sum();
+        long misses = cacheMisses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("size", verifiedCache.size());
+        stats.put("maxSize", cacheMaxSize);
+        return stats;
+    }
+
+    // 검증된 토큰 (클레임 + 만료 시각 + 만료 순서 색인 키)
+    private record VerifiedToken(Claims claims, long expMillis, ExpiryKey key) {}
+
+    // 만료 순서 (같은 만료 시각은 저장 순)
+    private record ExpiryKey(long expMillis, long seq) implements Comparable<ExpiryKey> {
+        @Override
+        public int compareTo(ExpiryKey o) {
+            int cmp = Long.compare(expMillis, o.expMillis);
+            return cmp != 0 ? cmp : Long.compare(seq, o.seq);
+        }
+    }
+
+    // 클레임에서 PK 추출 (변경 이전에 발급된 토큰이면 null)
+    public Integer getUid(Claims claims) {
+        Object uid = claims.get(CLAIM_UID);
+        return (uid instanceof Number n) ? n.intValue() : null;
     }
 }
@@ -4,9 +4,9 @@ import com.planty.config.CustomUserDetails;
 import com.planty.dto.board.AiChatResDto;
 import com.planty.dto.board.AiMessageResDto;
 import com.planty.dto.board.AiMessageWithBoardsDto;
+import com.planty.dto.board.BoardAllResDto;
 import com.planty.entity.board.AiChat;
 import com.planty.entity.board.AiMessage;
-import com.planty.entity.board.Board;
 import com.planty.entity.user.User;
 import com.planty.repository.user.UserRepository;
 import com.planty.service.board.AiChatService;
@@ -59,7 +59,7 @@ public class AiChatController {
             AiMessage aiMsg = aiChatService.generateAiResponse(chat, content);
 
             // 게시글 추천 추가
-            List<Board> recommendedBoards = aiChatService.getRecommendedBoards(content);
+            List<BoardAllResDto> recommendedBoards = aiChatService.getRecommendedBoards(content);
             response.put("aiMessage", new AiMessageResDto(
                     aiMsg.getId(),
                     aiMsg.getContent(),
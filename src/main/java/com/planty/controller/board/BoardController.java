@@ -3,21 +3,24 @@ package com.planty.controller.board;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.planty.common.ApiSuccess;
+import com.planty.common.EntityVersion;
 import com.planty.config.CustomUserDetails;
 import com.planty.dto.board.*;
 import com.planty.service.board.BoardService;
+import com.planty.service.board.BoardSuggestService;
 import com.planty.storage.StorageService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -28,6 +31,7 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardSuggestService boardSuggestService;
     private final StorageService storageService;
 
     // 판매 가능한 작물 가져오기
@@ -52,15 +56,8 @@ public class BoardController {
         // 권한이 없을 때
         if (me == null) return ResponseEntity.status(401).build();
 
-        // 파일 저장 → URL 리스트 생성
-        List<String> urls = new ArrayList<>();
-        if (images != null) {
-            for (MultipartFile f : images) {
-                if (!f.isEmpty()) {
-                    urls.add(storageService.save(f, "board"));
-                }
-            }
-        }
+        // 파일 저장 → URL 리스트 생성 (병렬 저장)
+        List<String> urls = storageService.saveAll(images, "board");
 
         // BoardSaveFormDto로 변환
         BoardSaveFormDto dto = new BoardSaveFormDto();
@@ -83,11 +80,18 @@ public class BoardController {
             @AuthenticationPrincipal CustomUserDetails me,
 
             // 게시글 id
-            @PathVariable Integer id
+            @PathVariable Integer id,
+            WebRequest request
     ) {
         // 권한이 없을 때
         if (me == null) return ResponseEntity.status(401).build();
 
+        // 조회수 기록 후 바뀐 게 없으면 본문 조립 없이 304 (조회수, 비슷한 게시글은 /views, /similar 로 따로 조회)
+        EntityVersion version = boardService.viewBoardDetail(id, me.getId());
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         // 판매 게시글 데이터 가져오기
         BoardDetailResDto dto = boardService.getBoardDetail(id, me.getId());
 
@@ -95,6 +99,30 @@ public class BoardController {
         return ResponseEntity.ok(dto);
     }
 
+    // 판매 게시글 조회수
+    @GetMapping("/details/{id}/views")
+    public ResponseEntity<?> getBoardViewCount(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @PathVariable Integer id
+    ) {
+        // 권한이 없을 때
+        if (me == null) return ResponseEntity.status(401).build();
+
+        return ResponseEntity.ok(boardService.getViewCount(id));
+    }
+
+    // 비슷한 판매 게시글
+    @GetMapping("/details/{id}/similar")
+    public ResponseEntity<?> getSimilarBoards(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @PathVariable Integer id
+    ) {
+        // 권한이 없을 때
+        if (me == null) return ResponseEntity.status(401).build();
+
+        return ResponseEntity.ok(boardService.getSimilarBoards(id));
+    }
+
     // 판매 게시글 수정 (JSON + 파일)
     @PutMapping(value="/details/{id:\\d+}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> updateBoard(
@@ -113,12 +141,7 @@ public class BoardController {
         if (me == null) return ResponseEntity.status(401).build();
 
         // (1) 새 파일 업로드 → URL 생성
-        List<String> newUrls = new ArrayList<>();
-        if (images != null) {
-            for (MultipartFile f : images) {
-                if (!f.isEmpty()) newUrls.add(storageService.save(f, "board"));
-            }
-        }
+        List<String> newUrls = storageService.saveAll(images, "board");
 
         // (2) JSON 배열 파싱 (null/빈문자열 방어)
         List<String> keepImageUrls = null;
@@ -199,6 +222,79 @@ public class BoardController {
         return ResponseEntity.ok(boardService.getAllBoards());
     }
 
+    // 판매 게시글 피드 (커서 기반 페이지)
+    @GetMapping(value="/feed")
+    public ResponseEntity<?> getBoardFeed(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        // 로그인 확인
+        if (me == null) return ResponseEntity.status(401).build();
+
+        // 커서 이후 게시글 + 다음 커서 반환
+        return ResponseEntity.ok(boardService.getBoardFeed(cursor, size));
+    }
+
+    // 작물 카테고리별 시세 (건수, 평균, 중앙값, 하위/상위 10%)
+    @GetMapping(value="/price-stats")
+    public ResponseEntity<?> getPriceStats(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @RequestParam(value = "category", required = false) String category
+    ) {
+        // 로그인 확인
+        if (me == null) return ResponseEntity.status(401).build();
+
+        // 카테고리별 판매중/판매완료 가격 분포 반환
+        return ResponseEntity.ok(boardService.getPriceStats(category));
+    }
+
+    // 개인화 판매 게시글 피드 (내 작물 카테고리 기준)
+    @GetMapping(value="/personal")
+    public ResponseEntity<?> getPersonalFeed(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        // 로그인 확인
+        if (me == null) return ResponseEntity.status(401).build();
+
+        // 내 작물 카테고리와 겹치는 판매중 게시글 반환
+        return ResponseEntity.ok(boardService.getPersonalFeed(me.getId(), page, size));
+    }
+
+    // 인기 판매 게시글 (조회수순)
+    @GetMapping(value="/popular")
+    public ResponseEntity<?> getPopularBoards(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        // 로그인 확인
+        if (me == null) return ResponseEntity.status(401).build();
+
+        // 조회수순 게시글 반환
+        return ResponseEntity.ok(boardService.getPopularBoards(page, size));
+    }
+
+    // 판매 게시글 조건 필터 (가격 범위, 판매 상태, 작물 카테고리 여러 개)
+    @GetMapping(value="/filter")
+    public ResponseEntity<?> filterBoards(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(value = "sell", required = false) Boolean sell,
+            @RequestParam(value = "category", required = false) List<String> categories,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        // 로그인 확인
+        if (me == null) return ResponseEntity.status(401).build();
+
+        // 조건에 맞는 게시글 + 카테고리/가격대별 개수 반환
+        return ResponseEntity.ok(boardService.filterBoards(minPrice, maxPrice, sell, categories, page, size));
+    }
+
     // 판매 게시글의 재배 일지 목록
     @GetMapping(value = "/details/diary/{boardId:\\d+}")
     public ResponseEntity<?> getBoardDiaryList(
@@ -217,6 +313,8 @@ public class BoardController {
     public ResponseEntity<?> searchBoards(
             @AuthenticationPrincipal CustomUserDetails me,
             @RequestParam(value = "q", required = false) List<String> qList,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
             HttpServletRequest req
     ) {
         // 로그인 확인
@@ -232,7 +330,21 @@ public class BoardController {
         }
 
         // 검색 결과 반환
-        return ResponseEntity.ok(boardService.searchBoards(q));
+        return ResponseEntity.ok(boardService.searchBoards(q, page, size));
+    }
+
+    // 검색어 자동완성 (작물 카테고리 + 게시글 제목)
+    @GetMapping("/search/suggest")
+    public ResponseEntity<?> suggest(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        // 로그인 확인
+        if (me == null) return ResponseEntity.status(401).build();
+
+        // 접두어 일치 검색어 반환
+        return ResponseEntity.ok(boardSuggestService.suggest(q, limit));
     }
 
     // 판매 게시글 재배 일지 상세 내용
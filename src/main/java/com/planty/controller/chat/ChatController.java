@@ -2,6 +2,7 @@ package com.planty.controller.chat;
 
 import com.planty.config.CustomUserDetails;
 import com.planty.dto.chat.ChatDto;
+import com.planty.dto.chat.ChatHistoryResDto;
 import com.planty.dto.chat.ChatMessageDto;
 import com.planty.dto.chat.ChatRoomDto;
 import com.planty.dto.chat.SendMessageRequest;
@@ -36,6 +37,18 @@ public class ChatController {
         return ResponseEntity.ok(chatService.getChatMessages(chatId));
     }
 
+    // 채팅 기록 페이지 조회 (순번 기준, 위로 스크롤: before, 재접속 동기화: after)
+    @GetMapping("/{chatId}/history")
+    public ResponseEntity<ChatHistoryResDto> getHistory(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @PathVariable Long chatId,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (me == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok(chatService.getChatHistory(chatId, me.getId(), before, after, size));
+    }
+
     // 발신/수신 메시지 조회
     @GetMapping("/{chatId}/messages/sender/{senderId}")
     public ResponseEntity<List<ChatMessageDto>> getMessagesBySender(
@@ -70,8 +83,9 @@ public class ChatController {
     }
 
     @PatchMapping("/read/{chatId}")
-    public ResponseEntity<Void> readChat(@AuthenticationPrincipal CustomUserDetails user, @PathVariable Long chatId) {
-        chatService.readChat(chatId, user.getId());
+    public ResponseEntity<Void> readChat(@AuthenticationPrincipal CustomUserDetails user, @PathVariable Long chatId,
+                                         @RequestParam(value = "seq", required = false) Long seq) {
+        chatService.readChat(chatId, user.getId(), seq);
         return ResponseEntity.ok().build();
     }
 
@@ -1,5 +1,6 @@
 package com.planty.controller.crop;
 
+import com.planty.common.EntityVersion;
 import com.planty.config.CustomUserDetails;
 import com.planty.dto.crop.HomeCropDto;
 import com.planty.service.user.UserService;
@@ -15,10 +16,12 @@ import com.planty.entity.user.User;
 import com.planty.service.crop.CropService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.MediaType;
 
@@ -53,10 +56,17 @@ public class CropController {
     @ResponseBody
     public ResponseEntity<Map<String, Object>> getCropDetail(
             @PathVariable Integer cropId,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest request) {
 
         Map<String, Object> response = new LinkedHashMap<>();
 
+        // 바뀐 게 없으면 본문 조립 없이 304 (본인 작물일 때만)
+        EntityVersion version = (userDetails == null) ? null : cropService.getCropDetailVersion(cropId, userDetails.getId());
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         try {
             User user = userService.findById(userDetails.getId());
             Crop crop = cropService.getCropById(cropId);
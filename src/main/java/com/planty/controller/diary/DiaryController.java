@@ -1,6 +1,7 @@
 package com.planty.controller.diary;
 
 import com.planty.common.ApiSuccess;
+import com.planty.common.EntityVersion;
 import com.planty.config.CustomUserDetails;
 
 import com.planty.dto.diary.*;
@@ -11,15 +12,16 @@ import com.planty.entity.crop.Crop;
 import com.planty.service.diary.DiaryService;
 import com.planty.storage.StorageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -63,15 +65,8 @@ public class DiaryController {
                     .body(new ApiSuccess(400, "이미지는 최대 9개까지만 업로드할 수 있습니다."));
         }
 
-        // 파일 저장 → URL 리스트 생성
-        List<String> urls = new ArrayList<>();
-        if (images != null) {
-            for (MultipartFile f : images) {
-                if (!f.isEmpty()) {
-                    urls.add(storageService.save(f, "diary"));
-                }
-            }
-        }
+        // 파일 저장 → URL 리스트 생성 (병렬 저장)
+        List<String> urls = storageService.saveAll(images, "diary");
 
         // 이미지 URL 개수 재검증 (빈 파일 제외 후)
         if (urls.size() > 9) {
@@ -90,11 +85,18 @@ public class DiaryController {
     @GetMapping("/details/{id}")
     public ResponseEntity<DiaryDetailResDto> getDiaryDetail(
             @AuthenticationPrincipal CustomUserDetails me,
-            @PathVariable Integer id
+            @PathVariable Integer id,
+            WebRequest request
     ) {
         // 권한이 없을 때
         if (me == null) return ResponseEntity.status(401).build();
 
+        // 바뀐 게 없으면 본문 조립 없이 304
+        EntityVersion version = diaryService.getDiaryDetailVersion(id, me.getId());
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         // 재배일지 데이터 가져오기
         DiaryDetailResDto dto = diaryService.getDiaryDetail(id, me.getId());
 
@@ -148,15 +150,8 @@ public class DiaryController {
                     .body(new ApiSuccess(400, "새로 추가할 이미지는 최대 9개까지만 업로드할 수 있습니다."));
         }
 
-        // 파일 저장 → URL 리스트 생성
-        List<String> newImageUrls = new ArrayList<>();
-        if (newImages != null) {
-            for (MultipartFile f : newImages) {
-                if (!f.isEmpty()) {
-                    newImageUrls.add(storageService.save(f, "diary"));
-                }
-            }
-        }
+        // 파일 저장 → URL 리스트 생성 (병렬 저장)
+        List<String> newImageUrls = storageService.saveAll(newImages, "diary");
 
         // 서비스 호출
         diaryService.updateDiary(id, me.getId(), form, newImageUrls);
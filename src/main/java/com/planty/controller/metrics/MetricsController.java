@@ -0,0 +1,51 @@
+package com.planty.controller.metrics;
+
+import com.planty.common.StatsSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+// 서버 내부 지표 조회 (StatsSource 빈 모음, 허용된 내부 주소에서만 - SecurityConfig)
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final Map<String, StatsSource> sources = new TreeMap<>();
+
+    public MetricsController(List<StatsSource> sources) {
+        for (StatsSource source : sources) {
+            StatsSource prev = this.sources.putIfAbsent(source.statsName(), source);
+            if (prev != null) {
+                throw new IllegalStateException("지표 이름 중복: " + source.statsName());
+            }
+        }
+    }
+
+    // 전체 지표 (이름순)
+    @GetMapping
+    public ResponseEntity<Map<String, Map<String, Object>>> getAllStats() {
+        Map<String, Map<String, Object>> body = new LinkedHashMap<>();
+        sources.forEach((name, source) -> body.put(name, source.getStats()));
+        return ResponseEntity.ok(body);
+    }
+
+    // 이름별 지표 (jwt-cache, board-search, chat-sockets 등)
+    @GetMapping("/{name}")
+    public ResponseEntity<Map<String, Object>> getStats(@PathVariable String name) {
+        StatsSource source = sources.get(name);
+        if (source == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "NOT_FOUND");
+        }
+        return ResponseEntity.ok(source.getStats());
+    }
+}
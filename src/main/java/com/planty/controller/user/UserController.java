@@ -1,17 +1,22 @@
 package com.planty.controller.user;
 
 import com.planty.common.ApiSuccess;
+import com.planty.config.CustomUserDetails;
 import com.planty.config.jwt.JwtProvider;
 import com.planty.dto.user.LoginFormDto;
 import com.planty.dto.user.SignupFormDto;
 import com.planty.entity.user.User;
+import com.planty.service.user.LoginRateLimiter;
+import com.planty.service.user.PasswordHashExecutor;
+import com.planty.service.user.UserAvailabilityService;
 import com.planty.service.user.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +26,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 
+@Slf4j
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -29,6 +35,9 @@ public class UserController {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+    private final UserAvailabilityService userAvailabilityService;
 
     // 회원가입
     @PostMapping("/signup")
@@ -41,26 +50,67 @@ public class UserController {
         return ResponseEntity.status(201).body(new ApiSuccess(201, "성공적으로 처리되었습니다."));
     }
 
+    // 아이디/닉네임 사용 가능 여부 (입력 중 실시간 확인)
+    @GetMapping("/availability")
+    public ResponseEntity<?> checkAvailability(
+            @RequestParam(value = "userId", required = false) String userId,
+            @RequestParam(value = "nickname", required = false) String nickname,
+            HttpServletRequest request
+    ) {
+        // 인증 없이 열린 경로라 IP별 요청 제한 (계정 목록 대량 조회 방어)
+        if (!loginRateLimiter.tryAcquireAvailability(request)) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS");
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (userId != null && !userId.isBlank()) {
+            body.put("userId", Map.of(
+                    "value", userId.trim(),
+                    "available", userAvailabilityService.isUserIdAvailable(userId.trim())));
+        }
+        if (nickname != null && !nickname.isBlank()) {
+            body.put("nickname", Map.of(
+                    "value", nickname.trim(),
+                    "available", userAvailabilityService.isNicknameAvailable(nickname.trim())));
+        }
+        return ResponseEntity.ok(body);
+    }
+
     // 로그인
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginFormDto loginFormDto) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginFormDto loginFormDto,
+                                   HttpServletRequest request) {
+
+        // IP/아이디별 요청 제한 (해시 연산 전에 거절)
+        if (!loginRateLimiter.tryAcquire(request, loginFormDto.getUserId())) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS");
+        }
 
-        UserDetails user;
+        CustomUserDetails user;
 
         // id로 유저 조회
         try {
-            user = userService.loadUserByUsername(loginFormDto.getUserId());
+            user = (CustomUserDetails) userService.loadUserByUsername(loginFormDto.getUserId());
         } catch (UsernameNotFoundException e) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "INVALID_CREDENTIALS");
         }
 
-        // 입력된 비번과 저장된 해시 비교
-        if (!passwordEncoder.matches(loginFormDto.getPassword(), user.getPassword())) {
+        // 입력된 비번과 저장된 해시 비교 (전용 실행기)
+        if (!passwordHashExecutor.matches(loginFormDto.getPassword(), user.getPassword())) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "INVALID_CREDENTIALS");
         }
 
-        // JWT 발급
-        String accessToken  = jwtProvider.createAccessToken(user.getUsername());
+        // 저장된 해시가 현재 강도보다 낮으면 재해시 (실패해도 로그인은 진행)
+        Integer userPk = user.getId();
+        try {
+            passwordHashExecutor.rehashIfNeeded(loginFormDto.getPassword(), user.getPassword())
+                    .ifPresent(hash -> userService.updatePasswordHash(userPk, hash));
+        } catch (Exception e) {
+            log.warn("비밀번호 재해시 실패: userId={}", user.getUsername(), e);
+        }
+
+        // JWT 발급 (PK 포함)
+        String accessToken  = jwtProvider.createAccessToken(userPk, user.getUsername());
 
         // JSON 응답 데이터
         Map<String, Object> body = new LinkedHashMap<>();
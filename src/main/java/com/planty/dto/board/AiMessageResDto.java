@@ -1,6 +1,5 @@
 package com.planty.dto.board;
 
-import com.planty.entity.board.Board;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -16,5 +15,5 @@ public class AiMessageResDto {
     private String sender;
     private LocalDateTime createdAt;
     private String aiImage;
-    private List<Board> recommendedBoards;
+    private List<BoardAllResDto> recommendedBoards;
 }
@@ -1,6 +1,5 @@
 package com.planty.dto.board;
 
-import com.planty.entity.board.Board;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,5 +9,5 @@ import java.util.List;
 public class AiMessageWithBoardsDto{
     Long id;
     String content;
-    List<Board> recommendedBoards;
+    List<BoardAllResDto> recommendedBoards;
 }
@@ -1,7 +1,6 @@
 package com.planty.dto.board;
 
 import com.planty.entity.board.Board;
-import com.planty.entity.board.BoardImage;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -27,24 +26,29 @@ public class BoardAllResDto {
         LocalDateTime dataTime = board.getCreatedAt();
         String time = toTimeAgo(dataTime);
 
-        // 썸네일 이미지 찾기
-        String thumbnailUrl = board.getImages().stream()
-                .filter(BoardImage::getThumbnail) // thumbnail == true
-                .findFirst()
-                .map(BoardImage::getBoardImg)     // boardImg 값 추출
-                .orElse(null);
-
         // 게시글 미리보기 데이터 반환
         return BoardAllResDto.builder()
                 .boardId(board.getId())
                 .title(board.getTitle())
                 .price(board.getPrice())
                 .time(time)
-                .thumbnailImg(thumbnailUrl)
+                .thumbnailImg(board.getThumbnailImg())
                 .sell(board.getSell())
                 .build();
     }
 
+    // 목록 프로젝션 -> DTO 반환 (이미지 컬렉션 로딩 없음)
+    public static BoardAllResDto of(BoardListRow row) {
+        return BoardAllResDto.builder()
+                .boardId(row.getId())
+                .title(row.getTitle())
+                .price(row.getPrice())
+                .time(toTimeAgo(row.getCreatedAt()))
+                .thumbnailImg(row.getThumbnailImg())
+                .sell(row.getSell())
+                .build();
+    }
+
     // 시간 계산
     public static String toTimeAgo(LocalDateTime time) {
         LocalDateTime now = LocalDateTime.now();
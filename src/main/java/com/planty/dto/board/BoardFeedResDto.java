@@ -0,0 +1,15 @@
+package com.planty.dto.board;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+
+// 프론트 전달용 판매 게시글 피드 (커서 기반 페이지)
+@Getter @Builder
+public class BoardFeedResDto {
+    private List<BoardAllResDto> boards;
+    private String nextCursor;   // 다음 페이지 요청 시 그대로 전달 (없으면 null)
+    private Boolean hasNext;
+}
@@ -0,0 +1,32 @@
+package com.planty.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+
+// 프론트 전달용 판매 게시글 조건 필터 결과 (페이지 + 카테고리/가격대별 개수)
+@Getter @Builder
+public class BoardFilterResDto {
+    private List<BoardAllResDto> boards;
+    private Integer total;                      // 조건에 맞는 전체 게시글 수
+    private List<CategoryCount> categories;     // 카테고리 조건을 뺀 나머지 조건 기준 개수
+    private List<PriceBucket> priceBuckets;     // 가격 조건을 뺀 나머지 조건 기준 개수
+
+    @Getter
+    @AllArgsConstructor
+    public static class CategoryCount {
+        private String name;
+        private Integer count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PriceBucket {
+        private Integer min;
+        private Integer max;        // 마지막 구간은 null (상한 없음)
+        private Integer count;
+    }
+}
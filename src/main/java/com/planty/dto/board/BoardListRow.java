@@ -0,0 +1,19 @@
+package com.planty.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+
+// 판매 게시글 목록 조회용 프로젝션 (목록에 필요한 컬럼 + 썸네일만)
+@Getter
+@AllArgsConstructor
+public class BoardListRow {
+    private Integer id;
+    private String title;
+    private Integer price;
+    private Boolean sell;
+    private LocalDateTime createdAt;
+    private String thumbnailImg;
+}
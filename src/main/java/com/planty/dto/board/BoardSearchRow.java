@@ -0,0 +1,25 @@
+package com.planty.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+
+// 검색 인덱스 적재용 프로젝션 (목록 컬럼 + 본문)
+@Getter
+@AllArgsConstructor
+public class BoardSearchRow {
+    private Integer id;
+    private String title;
+    private String content;
+    private Integer price;
+    private Boolean sell;
+    private LocalDateTime createdAt;
+    private String thumbnailImg;
+
+    // 목록 행으로 변환 (본문 제외)
+    public BoardListRow toListRow() {
+        return new BoardListRow(id, title, price, sell, createdAt, thumbnailImg);
+    }
+}
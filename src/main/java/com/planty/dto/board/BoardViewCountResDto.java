@@ -0,0 +1,12 @@
+package com.planty.dto.board;
+
+import lombok.Builder;
+import lombok.Getter;
+
+
+// 판매 게시글 조회수 (상세 본문과 분리, 조건부 GET 캐시 대상 아님)
+@Getter @Builder
+public class BoardViewCountResDto {
+    private Integer boardId;
+    private Long viewCount;
+}
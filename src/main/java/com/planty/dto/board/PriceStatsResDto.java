@@ -0,0 +1,22 @@
+package com.planty.dto.board;
+
+import lombok.Builder;
+import lombok.Getter;
+
+
+// 프론트 전달용 작물 카테고리별 시세 (판매중 / 판매완료)
+@Getter @Builder
+public class PriceStatsResDto {
+    private String category;
+    private Summary listed;
+    private Summary sold;
+
+    @Getter @Builder
+    public static class Summary {
+        private Long count;
+        private Integer mean;
+        private Integer median;
+        private Integer p10;
+        private Integer p90;
+    }
+}
@@ -0,0 +1,16 @@
+package com.planty.dto.chat;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+
+// 채팅 기록 페이지 (메시지 순번 기준, 오래된 순 정렬)
+@Getter @Builder
+public class ChatHistoryResDto {
+    private List<ChatMessageDto> messages;
+    private Long beforeCursor;   // 더 이전 메시지 요청 시 before 로 전달 (없으면 null)
+    private Long afterCursor;    // 재접속 시 새 메시지만 받으려면 after 로 전달
+    private Boolean hasMore;     // before/기본 조회: 더 이전 메시지 있음, after 조회: 더 새 메시지 있음
+}
@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 public class ChatMessageDto {
     private Long id;
     private Long chatId;
+    private Long seq;          // 채팅방 안 메시지 순번 (1부터 빈 번호 없이 증가)
     private Integer senderId;
     private String content;
     private Boolean read;
@@ -13,4 +13,15 @@ public class DiaryListDto {
     private String cropName;
     private String thumbnailImage;
     private LocalDateTime createdAt;
+
+    // 목록 프로젝션 -> DTO 반환
+    public static DiaryListDto of(DiaryListRow row) {
+        return DiaryListDto.builder()
+                .diaryId(row.getId())
+                .title(row.getTitle())
+                .cropName(row.getCropName())
+                .thumbnailImage(row.getThumbnailImg())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,18 @@
+package com.planty.dto.diary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+
+// 재배일지 목록 조회용 프로젝션 (목록에 필요한 컬럼 + 썸네일만)
+@Getter
+@AllArgsConstructor
+public class DiaryListRow {
+    private Integer id;
+    private String title;
+    private String cropName;
+    private String thumbnailImg;
+    private LocalDateTime createdAt;
+}
@@ -2,8 +2,8 @@ package com.planty.dto.mypage;
 
 
 import com.planty.dto.board.BoardAllResDto;
+import com.planty.dto.board.BoardListRow;
 import com.planty.entity.board.Board;
-import com.planty.entity.board.BoardImage;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -26,24 +26,29 @@ public class MySellBoardResDto {
         LocalDateTime dataTime = board.getCreatedAt();
         String time = toTimeAgo(dataTime);
 
-        // 썸네일 이미지 찾기
-        String thumbnailUrl = board.getImages().stream()
-                .filter(BoardImage::getThumbnail) // thumbnail == true
-                .findFirst()
-                .map(BoardImage::getBoardImg)     // boardImg 값 추출
-                .orElse(null);
-
         // 게시글 미리보기 데이터 반환
         return MySellBoardResDto.builder()
                 .boardId(board.getId())
                 .title(board.getTitle())
                 .price(board.getPrice())
                 .time(time)
-                .thumbnailImg(thumbnailUrl)
+                .thumbnailImg(board.getThumbnailImg())
                 .sell(board.getSell())
                 .build();
     }
 
+    // 목록 프로젝션 -> DTO 반환
+    public static MySellBoardResDto of(BoardListRow row) {
+        return MySellBoardResDto.builder()
+                .boardId(row.getId())
+                .title(row.getTitle())
+                .price(row.getPrice())
+                .time(toTimeAgo(row.getCreatedAt()))
+                .thumbnailImg(row.getThumbnailImg())
+                .sell(row.getSell())
+                .build();
+    }
+
     // 시간 계산
     public static String toTimeAgo(LocalDateTime time) {
         LocalDateTime now = LocalDateTime.now();
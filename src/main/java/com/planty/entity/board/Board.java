@@ -15,7 +15,8 @@ import java.util.List;
 
 // 판매 게시글 엔티티
 @Entity
-@Table(name = "board")
+@Table(name = "board",
+        indexes = {@Index(name = "idx_board_created_at_id", columnList = "created_at, id")})
 @Getter @Setter
 public class Board {
     @Id
@@ -40,6 +41,10 @@ public class Board {
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BoardImage> images = new ArrayList<>();
 
+    // 목록 조회용 썸네일 (images 중 thumbnail=true 이미지와 동기화)
+    @Column(name = "thumbnail_img", length = 500)
+    private String thumbnailImg;
+
     @Column(nullable = false)
     private Boolean sell = false;
 
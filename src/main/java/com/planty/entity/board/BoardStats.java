@@ -0,0 +1,25 @@
+package com.planty.entity.board;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+
+// 판매 게시글 통계 (조회수, 메모리에서 모았다가 주기적으로 일괄 반영)
+@Entity
+@Table(name = "board_stats",
+        indexes = {@Index(name = "idx_board_stats_view_count", columnList = "view_count, board_id")})
+@Getter @Setter
+public class BoardStats {
+    @Id
+    @Column(name = "board_id")
+    private Integer boardId;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -23,5 +23,9 @@ public class Chat {
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
 
+    // 마지막 메시지 순번 (ChatSequenceAllocator 가 UPDATE 로만 증가, 엔티티 저장으로는 덮어쓰지 않음)
+    @Column(name = "last_seq", nullable = false, updatable = false)
+    private Long lastSeq = 0L;
+
 }
 
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 
 // ChatMessage.java
 @Entity
-@Table(name = "chat_message")
+@Table(name = "chat_message",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_message_chat_seq", columnNames = {"chat_id", "seq"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,12 +25,17 @@ public class ChatMessage {
     @JoinColumn(name = "chat_id")
     private Chat chat;
 
+    // 채팅방 안 순번 (ChatSequenceAllocator 발급)
+    @Column(name = "seq")
+    private Long seq;
+
     @ManyToOne
     @JoinColumn(name = "sender_id")
     private User sender;
 
     private String content;
 
+    // 이전 방식 읽음 플래그 (더 이상 갱신하지 않음, 읽음 여부는 ChatUser.lastReadSeq 기준)
     @Column(name = "is_read")
     private Boolean read;
     private String chatImg;
@@ -0,0 +1,56 @@
+package com.planty.entity.chat;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+
+// 채팅방 목록용 요약 (참여자별 한 행: 마지막 메시지와 순번)
+// 메시지 전송과 같은 트랜잭션에서 갱신, 목록은 (user_id, last_message_at) 인덱스로 한 번에 조회
+// 안 읽은 개수는 last_seq - ChatUser.last_read_seq
+@Entity
+@Table(name = "chat_room_summary",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"chat_id", "user_id"}),
+        indexes = {@Index(name = "idx_chat_room_summary_user_last", columnList = "user_id, last_message_at")})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChatRoomSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_id", nullable = false)
+    private Long chatId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq = 0L;
+
+    @Column(name = "last_sender_id")
+    private Integer lastSenderId;
+
+    @Column(name = "last_preview", length = 100)
+    private String lastPreview;
+
+    @Column(name = "last_chat_img", length = 500)
+    private String lastChatImg;
+
+    // 메시지가 없으면 채팅방 생성 시각
+    @Column(name = "last_message_at", nullable = false)
+    private LocalDateTime lastMessageAt;
+
+    public ChatRoomSummary(Long chatId, Integer userId, LocalDateTime createdAt) {
+        this.chatId = chatId;
+        this.userId = userId;
+        this.lastMessageAt = createdAt;
+    }
+}
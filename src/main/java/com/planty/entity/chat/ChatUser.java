@@ -26,4 +26,8 @@ public class ChatUser {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // 마지막으로 읽은 메시지 순번 (읽음 처리는 이 한 행만 갱신, 안 읽은 개수 = 채팅방 마지막 순번 - 이 값)
+    @Column(name = "last_read_seq")
+    private Long lastReadSeq;
+
 }
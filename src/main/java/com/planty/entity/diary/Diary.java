@@ -44,6 +44,10 @@ public class Diary {
     @OneToMany(mappedBy = "diary", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<DiaryImage> images = new ArrayList<>();
 
+    // 목록 조회용 썸네일 (images 중 thumbnail=true 이미지와 동기화)
+    @Column(name = "thumbnail_img", length = 500)
+    private String thumbnailImg;
+
     @CreationTimestamp
     @Column(nullable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,44 @@
+package com.planty.entity.point;
+
+import com.planty.entity.user.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+
+// 포인트 거래 내역 (추가만 하고 수정/삭제하지 않음)
+@Entity
+@Table(name = "point_ledger",
+        indexes = {
+                @Index(name = "idx_point_ledger_user_id", columnList = "user_id, id"),
+                @Index(name = "idx_point_ledger_created_at", columnList = "created_at")
+        })
+@Getter @Setter
+public class PointLedger {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    private User user;
+
+    // 증감량 (차감은 음수)
+    @Column(nullable = false, updatable = false)
+    private Integer amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 30)
+    private PointReason reason;
+
+    // 관련 대상 id (게시글 id 등)
+    @Column(updatable = false)
+    private Integer refId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,6 @@
+package com.planty.entity.point;
+
+public enum PointReason {
+    BOARD_POST,   // 판매 게시글 작성 차감
+    ADJUSTMENT    // 관리자/기타 조정
+}
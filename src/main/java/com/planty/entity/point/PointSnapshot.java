@@ -0,0 +1,29 @@
+package com.planty.entity.point;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+
+// 포인트 잔액 스냅샷 (주기적으로 압축, 잔액 = balance + lastLedgerId 이후 내역 합)
+@Entity
+@Table(name = "point_snapshot")
+@Getter @Setter
+public class PointSnapshot {
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(nullable = false)
+    private Integer balance;
+
+    // 스냅샷에 반영된 마지막 내역 id
+    @Column(name = "last_ledger_id", nullable = false)
+    private Long lastLedgerId;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
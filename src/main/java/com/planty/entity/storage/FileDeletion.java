@@ -0,0 +1,37 @@
+package com.planty.entity.storage;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+
+// 파일 삭제 대기열 (요청 트랜잭션에서 기록, 커밋 후 백그라운드에서 실제 삭제)
+@Entity
+@Table(name = "file_deletion_outbox",
+        indexes = {@Index(name = "idx_file_deletion_next_attempt", columnList = "next_attempt_at, id")})
+@Getter @Setter
+public class FileDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 업로드 URL(/uploads/...) 또는 절대 경로
+    @Column(nullable = false, length = 1000)
+    private String target;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    // 다음 시도 시각 (null 이면 재시도 중단)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -18,7 +18,11 @@ import java.util.List;
 
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_users_user_id", columnNames = "user_id"),
+                @UniqueConstraint(name = "uk_users_nickname", columnNames = "nickname")
+        })
 @Getter @Setter
 @ToString
 public class User {
@@ -1,14 +1,22 @@
 package com.planty.repository.board;
 
-import com.planty.dto.board.BoardAllResDto;
+import com.planty.dto.board.BoardListRow;
+import com.planty.dto.board.BoardSearchRow;
 import com.planty.entity.board.Board;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 // 판매 게시판 레포지토리
@@ -17,14 +25,38 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
     @EntityGraph(attributePaths = {"user","crop","images"})
     Optional<Board> findById(Integer id);
 
-    // 판매 게시글 전체 목록 가져오기
-    List<Board> findAllByOrderByCreatedAtDesc();
+    // 판매 게시글 전체 목록 가져오기 (목록 컬럼만)
+    @Query("""
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+        order by b.createdAt desc
+    """)
+    List<BoardListRow> findAllRows();
+
+    // 판매 게시글 피드 첫 페이지
+    @Query("""
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardListRow> findFeedFirstPage(Pageable pageable);
+
+    // 판매 게시글 피드 다음 페이지 ((createdAt, id) 커서 이후)
+    @Query("""
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+        where b.createdAt < :createdAt
+           or (b.createdAt = :createdAt and b.id < :id)
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardListRow> findFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Integer id,
+                                     Pageable pageable);
 
     // 제목, 카테고리로 판매 게시글 검색하기
     @Query("""
-        select distinct b
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
         from Board b
-        left join fetch b.images i
         where b.title like :pattern
            or exists (
                 select 1 from CropCategory cc
@@ -33,7 +65,61 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
            )
         order by b.createdAt desc
     """)
-    List<Board> searchByKeyword(@Param("pattern") String pattern);
+    List<BoardListRow> searchByKeyword(@Param("pattern") String pattern);
+
+    // 검색 인덱스 적재용 전체 게시글
+    @Query("""
+        select new com.planty.dto.board.BoardSearchRow(b.id, b.title, b.content, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+    """)
+    List<BoardSearchRow> findAllSearchRows();
+
+    // 검색 인덱스 적재용 단일 게시글
+    @Query("""
+        select new com.planty.dto.board.BoardSearchRow(b.id, b.title, b.content, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+        where b.id = :boardId
+    """)
+    Optional<BoardSearchRow> findSearchRow(@Param("boardId") Integer boardId);
+
+    // 게시글별 작물 카테고리명 ([boardId, categoryName])
+    @Query("""
+        select b.id, cc.categoryName
+        from Board b
+        join CropCategory cc on cc.crop = b.crop
+    """)
+    List<Object[]> findAllCategoryNames();
+
+    // 게시글 하나의 작물 카테고리명
+    @Query("""
+        select cc.categoryName
+        from Board b
+        join CropCategory cc on cc.crop = b.crop
+        where b.id = :boardId
+    """)
+    List<String> findCategoryNames(@Param("boardId") Integer boardId);
+
+    // 시세 통계 재구성용 ([boardId, price, sell, categoryName], 게시글 id 순으로 한 번에 흘려 읽기)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+    @Query("""
+        select b.id, b.price, b.sell, cc.categoryName
+        from Board b
+        join CropCategory cc on cc.crop = b.crop
+        order by b.id
+    """)
+    Stream<Object[]> streamPriceRows();
+
+    // 상세 조건부 GET용 버전 ([게시글 수정, 이미지 최신 등록, 판매자 수정, 판매자 id])
+    @Query("""
+        select b.modifiedAt,
+               (select max(bi.createdAt) from BoardImage bi where bi.board = b),
+               u.modifiedAt,
+               u.id
+        from Board b
+        join b.user u
+        where b.id = :boardId
+    """)
+    List<Object[]> findDetailVersion(@Param("boardId") Integer boardId);
 
     // 게시글 기준으로 crop 아이디 가져오기
     @Query("select b.crop.id from Board b where b.id = :boardId")
@@ -41,23 +127,112 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
 
     // 내가 쓴 판매 게시글 불러오기
     @Query("""
-        select b
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
         from Board b
-        left join fetch b.images
         where b.user.id = :userId
         order by b.sell asc, b.createdAt desc
     """)
-    List<Board> findMyBoardsOrderByStatusAndCreated(@Param("userId") Integer userId);
+    List<BoardListRow> findMyBoardsOrderByStatusAndCreated(@Param("userId") Integer userId);
+
+    // 썸네일 컬럼이 비어 있는 기존 게시글 채우기
+    @Modifying
+    @Query("""
+        update Board b
+        set b.thumbnailImg = (
+            select min(bi.boardImg) from BoardImage bi
+            where bi.board = b and bi.thumbnail = true
+        )
+        where b.thumbnailImg is null
+    """)
+    int backfillThumbnails();
+
+    // AI 챗봇 추천: 카테고리의 최신 판매중 게시글 (개수 제한은 SQL에서)
+    @Query("""
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+        join CropCategory cc on cc.crop = b.crop
+        where cc.categoryName = :categoryName
+          and b.sell = false
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardListRow> findOnSaleRowsByCategoryName(@Param("categoryName") String categoryName, Pageable pageable);
 
-    //ai 챗봇: 카테고리 분류 불러오기
+    // AI 챗봇 추천: 메시지에 카테고리명이 포함된 최신 판매중 게시글 (추천 인덱스 적재 전 대체 경로)
     @Query("""
-    SELECT b FROM Board b
-    JOIN b.crop c
-    JOIN c.categories cc
-    WHERE cc.categoryName = :categoryName
-    AND b.sell = true
-    ORDER BY b.createdAt DESC
-""")
-    List<Board> findByCropCategoryName(@Param("categoryName") String categoryName);
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+        where b.sell = false
+          and exists (
+                select 1 from CropCategory cc
+                where cc.crop = b.crop
+                  and locate(cc.categoryName, :text) > 0
+          )
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardListRow> findOnSaleRowsMentionedIn(@Param("text") String text, Pageable pageable);
+
+    // 조건 필터 (필터 인덱스 적재 전 대체 경로, 카테고리 조건 없음, 최신순)
+    @Query("""
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+        where (:minPrice is null or b.price >= :minPrice)
+          and (:maxPrice is null or b.price <= :maxPrice)
+          and (:sell is null or coalesce(b.sell, false) = :sell)
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardListRow> findFilteredRows(@Param("minPrice") Integer minPrice,
+                                        @Param("maxPrice") Integer maxPrice,
+                                        @Param("sell") Boolean sell,
+                                        Pageable pageable);
+
+    // 조건 필터 전체 개수 (카테고리 조건 없음)
+    @Query("""
+        select count(b)
+        from Board b
+        where (:minPrice is null or b.price >= :minPrice)
+          and (:maxPrice is null or b.price <= :maxPrice)
+          and (:sell is null or coalesce(b.sell, false) = :sell)
+    """)
+    long countFilteredRows(@Param("minPrice") Integer minPrice,
+                           @Param("maxPrice") Integer maxPrice,
+                           @Param("sell") Boolean sell);
+
+    // 조건 필터 + 카테고리 중 하나 이상 일치 (categories 는 비어 있지 않아야 함)
+    @Query("""
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from Board b
+        where (:minPrice is null or b.price >= :minPrice)
+          and (:maxPrice is null or b.price <= :maxPrice)
+          and (:sell is null or coalesce(b.sell, false) = :sell)
+          and exists (
+                select 1 from CropCategory cc
+                where cc.crop = b.crop
+                  and cc.categoryName in :categories
+          )
+        order by b.createdAt desc, b.id desc
+    """)
+    List<BoardListRow> findFilteredRowsInCategories(@Param("minPrice") Integer minPrice,
+                                                    @Param("maxPrice") Integer maxPrice,
+                                                    @Param("sell") Boolean sell,
+                                                    @Param("categories") Collection<String> categories,
+                                                    Pageable pageable);
+
+    // 조건 필터 + 카테고리 전체 개수
+    @Query("""
+        select count(b)
+        from Board b
+        where (:minPrice is null or b.price >= :minPrice)
+          and (:maxPrice is null or b.price <= :maxPrice)
+          and (:sell is null or coalesce(b.sell, false) = :sell)
+          and exists (
+                select 1 from CropCategory cc
+                where cc.crop = b.crop
+                  and cc.categoryName in :categories
+          )
+    """)
+    long countFilteredRowsInCategories(@Param("minPrice") Integer minPrice,
+                                       @Param("maxPrice") Integer maxPrice,
+                                       @Param("sell") Boolean sell,
+                                       @Param("categories") Collection<String> categories);
 
 }
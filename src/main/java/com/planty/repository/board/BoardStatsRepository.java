@@ -0,0 +1,33 @@
+package com.planty.repository.board;
+
+import com.planty.dto.board.BoardListRow;
+import com.planty.entity.board.BoardStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+
+// 판매 게시글 통계 레포지토리
+public interface BoardStatsRepository extends JpaRepository<BoardStats, Integer> {
+
+    // 게시글 조회수 (반영된 값)
+    @Query("select s.viewCount from BoardStats s where s.boardId = :boardId")
+    Optional<Long> findViewCount(@Param("boardId") Integer boardId);
+
+    // 여러 게시글 조회수: [boardId, viewCount]
+    @Query("select s.boardId, s.viewCount from BoardStats s where s.boardId in :boardIds")
+    List<Object[]> findViewCounts(@Param("boardIds") List<Integer> boardIds);
+
+    // 인기 판매 게시글 (조회수순)
+    @Query("""
+        select new com.planty.dto.board.BoardListRow(b.id, b.title, b.price, b.sell, b.createdAt, b.thumbnailImg)
+        from BoardStats s
+        join Board b on b.id = s.boardId
+        order by s.viewCount desc, b.id desc
+    """)
+    List<BoardListRow> findPopularRows(Pageable pageable);
+}
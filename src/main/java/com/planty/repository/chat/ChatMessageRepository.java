@@ -1,10 +1,11 @@
 package com.planty.repository.chat;
 
+import com.planty.dto.chat.ChatMessageDto;
 import com.planty.entity.chat.Chat;
 import com.planty.entity.chat.ChatMessage;
 import com.planty.entity.chat.ChatUser;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,22 +14,31 @@ import java.util.Optional;
 
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByChatIdOrderByCreatedAtAsc(Long chatId);
+    List<ChatMessage> findByChatIdOrderBySeqAsc(Long chatId);
     List<ChatMessage> findByChatIdAndSenderId(Long chatId, Integer senderId);
     Optional<ChatMessage> findTopByChatIdOrderByCreatedAtDesc(Long chatId);
 
     void deleteByChatId(Long chatId);
 
-    Integer countByChatIdAndSenderIdAndReadFalse(Long chatId, Integer userId);
-
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query(value = "UPDATE chat_message " +
-            "SET is_read = true " +
-            "WHERE chat_id = :chatId " +
-            "AND sender_id <> :userId " +
-            "AND is_read = false",
-            nativeQuery = true)
-    Integer markAsRead(@Param("chatId") Long chatId, @Param("userId") Integer userId);
+    // 채팅 기록 순번 범위 페이지 ((chat_id, seq) 인덱스, 발신자/채팅방 조인 없이 DTO로 바로 조회, 읽음 여부는 읽음 커서로 채움)
+    @Query("SELECT new com.planty.dto.chat.ChatMessageDto(m.id, m.chat.id, m.seq, m.sender.id, m.content, false, " +
+            "m.chatImg, m.createdAt, m.modifiedAt) FROM ChatMessage m " +
+            "WHERE m.chat.id = :chatId ORDER BY m.seq DESC")
+    List<ChatMessageDto> findLatestPage(@Param("chatId") Long chatId, Pageable pageable);
+
+    @Query("SELECT new com.planty.dto.chat.ChatMessageDto(m.id, m.chat.id, m.seq, m.sender.id, m.content, false, " +
+            "m.chatImg, m.createdAt, m.modifiedAt) FROM ChatMessage m " +
+            "WHERE m.chat.id = :chatId AND m.seq < :before ORDER BY m.seq DESC")
+    List<ChatMessageDto> findPageBefore(@Param("chatId") Long chatId, @Param("before") Long before, Pageable pageable);
+
+    @Query("SELECT new com.planty.dto.chat.ChatMessageDto(m.id, m.chat.id, m.seq, m.sender.id, m.content, false, " +
+            "m.chatImg, m.createdAt, m.modifiedAt) FROM ChatMessage m " +
+            "WHERE m.chat.id = :chatId AND m.seq > :after ORDER BY m.seq ASC")
+    List<ChatMessageDto> findPageAfter(@Param("chatId") Long chatId, @Param("after") Long after, Pageable pageable);
+
+    // 채팅방 마지막 순번 ((chat_id, seq) 인덱스 끝만 읽음)
+    @Query("SELECT MAX(m.seq) FROM ChatMessage m WHERE m.chat.id = :chatId")
+    Long findLatestSeq(@Param("chatId") Long chatId);
 
 }
 
@@ -2,6 +2,17 @@ package com.planty.repository.chat;
 
 import com.planty.entity.chat.Chat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatRepository extends JpaRepository<Chat, Long> {
-}
\ No newline at end of file
+
+    // 순번 증가 (채팅방 행 잠금, 트랜잭션 끝까지 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Chat c SET c.lastSeq = c.lastSeq + 1 WHERE c.id = :chatId")
+    int incrementLastSeq(@Param("chatId") Long chatId);
+
+    @Query("SELECT c.lastSeq FROM Chat c WHERE c.id = :chatId")
+    Long findLastSeq(@Param("chatId") Long chatId);
+}
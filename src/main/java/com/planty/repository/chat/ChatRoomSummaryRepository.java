@@ -0,0 +1,36 @@
+package com.planty.repository.chat;
+
+import com.planty.entity.chat.ChatRoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, Long> {
+
+    // 내 채팅방 목록 (최근 활동 순): [요약, 내 읽음 순번]
+    @Query("SELECT s, cu.lastReadSeq FROM ChatRoomSummary s, ChatUser cu " +
+            "WHERE s.userId = :userId AND cu.chat.id = s.chatId AND cu.user.id = s.userId " +
+            "ORDER BY s.lastMessageAt DESC, s.chatId DESC")
+    List<Object[]> findRoomsByUserId(@Param("userId") Integer userId);
+
+    // 새 메시지 반영
+    @Modifying
+    @Query("UPDATE ChatRoomSummary s SET s.lastMessageId = :messageId, s.lastSeq = :seq, s.lastSenderId = :senderId, " +
+            "s.lastPreview = :preview, s.lastChatImg = :chatImg, s.lastMessageAt = :at " +
+            "WHERE s.chatId = :chatId")
+    int applyMessage(@Param("chatId") Long chatId,
+                     @Param("messageId") Long messageId,
+                     @Param("seq") Long seq,
+                     @Param("senderId") Integer senderId,
+                     @Param("preview") String preview,
+                     @Param("chatImg") String chatImg,
+                     @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("DELETE FROM ChatRoomSummary s WHERE s.chatId = :chatId")
+    int deleteByChatId(@Param("chatId") Long chatId);
+}
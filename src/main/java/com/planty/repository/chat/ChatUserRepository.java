@@ -3,6 +3,7 @@ package com.planty.repository.chat;
 
 import com.planty.entity.chat.ChatUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,5 +23,27 @@ public interface ChatUserRepository extends JpaRepository<ChatUser, Long> {
     Optional<ChatUser> findByChatIdAndUserId(@Param("chatId") Long chatId, @Param("userId") Integer userId);
 
 
+    // 채팅방 참여자 id (실시간 전송 대상)
+    @Query("SELECT cu.user.id FROM ChatUser cu WHERE cu.chat.id = :chatId")
+    List<Integer> findUserIdsByChatId(@Param("chatId") Long chatId);
+
+    // 여러 채팅방의 참여자 (나 제외): [chatId, userId, nickname, profileImg, lastReadSeq]
+    @Query("SELECT cu.chat.id, u.id, u.nickname, u.profileImg, cu.lastReadSeq FROM ChatUser cu JOIN cu.user u " +
+            "WHERE cu.chat.id IN :chatIds AND u.id <> :userId")
+    List<Object[]> findParticipantsByChatIds(@Param("chatIds") List<Long> chatIds, @Param("userId") Integer userId);
+
+    // 참여자별 읽음 커서: [userId, lastReadSeq]
+    @Query("SELECT cu.user.id, cu.lastReadSeq FROM ChatUser cu WHERE cu.chat.id = :chatId")
+    List<Object[]> findReadCursors(@Param("chatId") Long chatId);
+
+    // 읽음 커서 앞으로만 이동
+    @Modifying
+    @Query("UPDATE ChatUser cu SET cu.lastReadSeq = :seq " +
+            "WHERE cu.chat.id = :chatId AND cu.user.id = :userId " +
+            "AND (cu.lastReadSeq IS NULL OR cu.lastReadSeq < :seq)")
+    int advanceReadCursor(@Param("chatId") Long chatId,
+                          @Param("userId") Integer userId,
+                          @Param("seq") Long seq);
+
     void deleteByChatId(Long chatId);
 }
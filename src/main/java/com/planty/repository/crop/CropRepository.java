@@ -34,4 +34,25 @@ public interface CropRepository extends JpaRepository<Crop, Integer> {
 
     // 재배 중인 작물 불러오기
     List<Crop> findByUser_IdAndHarvestFalseOrderByCreatedAtDesc(Integer userId);
+
+    // 상세 조건부 GET용 버전 ([작물 수정, 소유자 id, 소유자 일지 최신 수정, 소유자 일지 수])
+    @Query("""
+        select c.modifiedAt,
+               c.user.id,
+               (select max(d.modifiedAt) from Diary d where d.user = c.user),
+               (select count(d) from Diary d where d.user = c.user)
+        from Crop c
+        where c.id = :cropId
+    """)
+    List<Object[]> findDetailVersion(@Param("cropId") Integer cropId);
+
+    // 사용자가 등록한 작물들의 카테고리명 (개인화 피드용)
+    @Query("""
+        select distinct cc.categoryName
+        from CropCategory cc
+        join cc.crop c
+        where c.user.id = :userId
+          and c.isRegistered = true
+    """)
+    List<String> findRegisteredCategoryNamesByUserId(@Param("userId") Integer userId);
 }
\ No newline at end of file
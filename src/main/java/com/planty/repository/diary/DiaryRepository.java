@@ -1,10 +1,15 @@
 package com.planty.repository.diary;
 
+import com.planty.dto.diary.DiaryListRow;
 import com.planty.entity.diary.Diary;
 import com.planty.entity.user.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,10 +26,70 @@ public interface DiaryRepository extends JpaRepository<Diary, Integer> {
     List<Diary> findByUserOrderByCreatedAtDesc(User user);
     
     // 작물별 재배일지 목록 조회 (최신순)
-    @EntityGraph(attributePaths = {"user", "crop", "images"})
+    @EntityGraph(attributePaths = {"user", "crop"})
     List<Diary> findByCropIdOrderByCreatedAtDesc(Integer cropId);
     
     // 사용자별 재배일지 목록 조회 (같은 분류 작물만)
     @EntityGraph(attributePaths = {"crop", "images"})
     List<Diary> findByUserAndCropNameInOrderByCreatedAtDesc(User user, List<String> cropNames);
+
+    // 사용자별 재배일지 목록 (목록 컬럼만, 최신순)
+    @Query("""
+        select new com.planty.dto.diary.DiaryListRow(d.id, d.title, c.name, d.thumbnailImg, d.createdAt)
+        from Diary d
+        join d.crop c
+        where d.user.id = :userId
+        order by d.createdAt desc
+    """)
+    List<DiaryListRow> findListRowsByUserId(@Param("userId") Integer userId);
+
+    // 사용자별 재배일지 목록 (주어진 카테고리를 가진 작물만)
+    @Query("""
+        select new com.planty.dto.diary.DiaryListRow(d.id, d.title, c.name, d.thumbnailImg, d.createdAt)
+        from Diary d
+        join d.crop c
+        where d.user.id = :userId
+          and exists (
+                select 1 from CropCategory cc
+                where cc.crop = c
+                  and cc.categoryName in :categories
+          )
+        order by d.createdAt desc
+    """)
+    List<DiaryListRow> findListRowsByUserIdAndCategories(@Param("userId") Integer userId,
+                                                         @Param("categories") Collection<String> categories);
+
+    // 작물별 재배일지 목록 (목록 컬럼만, 최신순)
+    @Query("""
+        select new com.planty.dto.diary.DiaryListRow(d.id, d.title, c.name, d.thumbnailImg, d.createdAt)
+        from Diary d
+        join d.crop c
+        where c.id = :cropId
+        order by d.createdAt desc
+    """)
+    List<DiaryListRow> findListRowsByCropId(@Param("cropId") Integer cropId);
+
+    // 썸네일 컬럼이 비어 있는 기존 재배일지 채우기
+    @Modifying
+    @Query("""
+        update Diary d
+        set d.thumbnailImg = (
+            select min(di.diaryImg) from DiaryImage di
+            where di.diary = d and di.thumbnail = true
+        )
+        where d.thumbnailImg is null
+    """)
+    int backfillThumbnails();
+
+    // 상세 조건부 GET용 버전 ([일지 수정, 이미지 최신 등록, 작물 수정, 작성자 id])
+    @Query("""
+        select d.modifiedAt,
+               (select max(di.createdAt) from DiaryImage di where di.diary = d),
+               c.modifiedAt,
+               d.user.id
+        from Diary d
+        join d.crop c
+        where d.id = :diaryId
+    """)
+    List<Object[]> findDetailVersion(@Param("diaryId") Integer diaryId);
 }
@@ -0,0 +1,26 @@
+package com.planty.repository.point;
+
+import com.planty.entity.point.PointLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+// 포인트 거래 내역 레포지토리
+public interface PointLedgerRepository extends JpaRepository<PointLedger, Long> {
+
+    // 해당 시각 이후 거래가 있었던 유저
+    @Query("select distinct l.user.id from PointLedger l where l.createdAt >= :since")
+    List<Integer> findUserIdsSince(@Param("since") LocalDateTime since);
+
+    // 유저의 마지막 거래 id
+    @Query("select max(l.id) from PointLedger l where l.user.id = :userId")
+    Long findMaxIdByUserId(@Param("userId") Integer userId);
+
+    // 스냅샷 이후 거래 합계
+    @Query("select coalesce(sum(l.amount), 0) from PointLedger l where l.user.id = :userId and l.id > :afterId")
+    Long sumAmountAfter(@Param("userId") Integer userId, @Param("afterId") Long afterId);
+}
@@ -0,0 +1,9 @@
+package com.planty.repository.point;
+
+import com.planty.entity.point.PointSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+
+// 포인트 잔액 스냅샷 레포지토리
+public interface PointSnapshotRepository extends JpaRepository<PointSnapshot, Integer> {
+}
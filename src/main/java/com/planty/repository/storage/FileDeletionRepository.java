@@ -0,0 +1,27 @@
+package com.planty.repository.storage;
+
+import com.planty.entity.storage.FileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+// 파일 삭제 대기열 레포지토리
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    // 지금 시도할 차례인 항목 (오래된 순)
+    @Query("""
+        select f from FileDeletion f
+        where f.nextAttemptAt <= :now
+        order by f.nextAttemptAt asc, f.id asc
+    """)
+    List<FileDeletion> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 재시도를 멈춘 항목 수
+    @Query("select count(f) from FileDeletion f where f.nextAttemptAt is null")
+    long countAbandoned();
+}
@@ -2,8 +2,12 @@ package com.planty.repository.user;
 
 import com.planty.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -17,4 +21,31 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 
     // 유저 닉네임 중복 검사
     boolean existsByNickname(String nickname);
+
+    // 전체 아이디 (가용성 필터 적재용)
+    @Query("select u.userId from User u")
+    List<String> findAllUserIds();
+
+    // 전체 닉네임 (가용성 필터 적재용)
+    @Query("select u.nickname from User u")
+    List<String> findAllNicknames();
+
+    // 비밀번호 해시만 갱신 (로그인 시 재해시)
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Integer id, @Param("password") String password);
+
+    // 포인트 조건부 차감 (잔액이 충분할 때만, 반영된 행 수 반환)
+    @Modifying
+    @Query("update User u set u.point = u.point - :amount where u.id = :id and u.point >= :amount")
+    int withdrawPoint(@Param("id") Integer id, @Param("amount") int amount);
+
+    // 포인트 적립
+    @Modifying
+    @Query("update User u set u.point = u.point + :amount where u.id = :id")
+    int depositPoint(@Param("id") Integer id, @Param("amount") int amount);
+
+    // 포인트 잔액만 조회
+    @Query("select u.point from User u where u.id = :id")
+    Optional<Integer> findPointById(@Param("id") Integer id);
 }
@@ -1,18 +1,18 @@
 package com.planty.service.board;
 
-import com.planty.dto.board.AiMessageResDto;
-import com.planty.dto.board.AiMessageWithBoardsDto;
+import com.planty.dto.board.BoardAllResDto;
+import com.planty.dto.board.BoardListRow;
 import com.planty.entity.board.AiChat;
 import com.planty.entity.board.AiMessage;
-import com.planty.entity.board.Board;
 import com.planty.entity.user.User;
 import com.planty.repository.board.AiChatRepository;
 import com.planty.repository.board.AiMessageRepository;
 import com.planty.repository.board.BoardRepository;
+import com.planty.storage.ImageUrlMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
@@ -28,6 +28,8 @@ public class AiChatService {
     private final AiChatRepository aiChatRepository;
     private final AiMessageRepository aiMessageRepository;
     private final BoardRepository boardRepository;
+    private final BoardRecommendIndex boardRecommendIndex;
+    private final ImageUrlMapper imageUrlMapper;
 
     // WebClient 초기화
     private final WebClient webClient;
@@ -71,11 +73,18 @@ public class AiChatService {
         return aiMessageRepository.save(aiMessage);
     }
 
-    // 판매게시글 추천만 가져오기
-    public List<Board> getRecommendedBoards(String keyword) {
-        return boardRepository.findByCropCategoryName(keyword)
-                .stream()
-                .limit(5) // 최대 5개
+    // 판매게시글 추천만 가져오기 (인덱스 적재 전이면 DB에서 상위 N개만 조회)
+    public List<BoardAllResDto> getRecommendedBoards(String keyword) {
+        List<BoardListRow> rows = boardRecommendIndex.isReady()
+                ? boardRecommendIndex.recommend(keyword)
+                : boardRepository.findOnSaleRowsMentionedIn(keyword, PageRequest.of(0, boardRecommendIndex.getTopN()));
+
+        return rows.stream()
+                .map(BoardAllResDto::of)
+                .map(dto -> {
+                    dto.setThumbnailImg(imageUrlMapper.toPublic(dto.getThumbnailImg()));
+                    return dto;
+                })
                 .toList();
     }
 
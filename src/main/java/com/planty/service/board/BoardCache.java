@@ -0,0 +1,79 @@
+package com.planty.service.board;
+
+import com.planty.common.ReadThroughCache;
+import com.planty.common.StatsSource;
+import com.planty.dto.board.BoardDetailResDto;
+import com.planty.dto.board.BoardListRow;
+import com.planty.service.user.UserProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+
+// 판매 게시글 목록/상세 캐시 (변경 이벤트 커밋 후 무효화)
+@Component
+public class BoardCache implements StatsSource {
+
+    private static final String ALL_KEY = "all";
+
+    private final boolean enabled;
+    private final ReadThroughCache<String, List<BoardListRow>> lists;    // 전체 목록, 피드 첫 페이지
+    private final ReadThroughCache<Integer, BoardDetailResDto> details;  // 게시글 id -> 상세 (isOwner 제외)
+
+    public BoardCache(@Value("${board.cache.enabled:true}") boolean enabled,
+                      @Value("${board.cache.max-size:1000}") int maxSize,
+                      @Value("${board.cache.ttl-millis:30000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.lists = new ReadThroughCache<>("board-lists", 64, ttlMillis);
+        this.details = new ReadThroughCache<>("board-details", maxSize, ttlMillis);
+    }
+
+    // 전체 게시글 목록
+    public List<BoardListRow> allRows(Supplier<List<BoardListRow>> loader) {
+        return enabled ? lists.get(ALL_KEY, loader) : loader.get();
+    }
+
+    // 피드 첫 페이지 (페이지 크기별)
+    public List<BoardListRow> feedFirstPage(int limit, Supplier<List<BoardListRow>> loader) {
+        return enabled ? lists.get("feed:" + limit, loader) : loader.get();
+    }
+
+    // 게시글 상세
+    public BoardDetailResDto detail(Integer boardId, Supplier<BoardDetailResDto> loader) {
+        return enabled ? details.get(boardId, loader) : loader.get();
+    }
+
+    // 게시글 변경: 해당 상세 + 목록 전체
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        details.invalidate(event.getBoardId());
+        lists.invalidateAll();
+    }
+
+    // 판매자 닉네임/프로필 이미지 변경: 그 판매자의 상세만
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        details.invalidateIf((id, detail) -> event.getUserId().equals(detail.getSeller().getSellerId()));
+    }
+
+    @Override
+    public String statsName() {
+        return "board-cache";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("lists", lists.getStats());
+        stats.put("details", details.getStats());
+        return stats;
+    }
+}
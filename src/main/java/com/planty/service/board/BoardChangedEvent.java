@@ -0,0 +1,21 @@
+package com.planty.service.board;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+// 판매 게시글 변경 이벤트 (커밋 후 메모리 인덱스 갱신용)
+@Getter
+@RequiredArgsConstructor
+public class BoardChangedEvent {
+    private final Integer boardId;
+    private final boolean deleted;
+
+    public static BoardChangedEvent saved(Integer boardId) {
+        return new BoardChangedEvent(boardId, false);
+    }
+
+    public static BoardChangedEvent deleted(Integer boardId) {
+        return new BoardChangedEvent(boardId, true);
+    }
+}
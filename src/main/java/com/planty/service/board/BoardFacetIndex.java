@@ -0,0 +1,326 @@
+package com.planty.service.board;
+
+import com.planty.common.StatsSource;
+import com.planty.dto.board.BoardListRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+// 판매 게시글 조건 필터 인덱스 (가격, 판매 상태, 작물 카테고리) + 카테고리/가격대별 개수
+// 게시글마다 슬롯 하나, 컬럼은 기본형 배열/비트셋으로 보관 (삭제된 슬롯은 재사용)
+// 게시글 변경 반영/주기적 재구성은 BoardIndexUpdater
+@Slf4j
+@Component
+public class BoardFacetIndex extends BoardIndexSupport implements StatsSource {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int NO_PRICE = Integer.MIN_VALUE;
+
+    private final int[] bucketBounds;   // 가격대 하한 목록 (오름차순, 마지막 구간은 상한 없음)
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Columns cols = new Columns(INITIAL_CAPACITY);
+
+    private volatile boolean ready = false;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
+
+    public BoardFacetIndex(@Value("${board.facet.price-buckets:0,5000,10000,30000,50000,100000}") int[] bucketBounds) {
+        super("필터 인덱스");
+        this.bucketBounds = Arrays.stream(bucketBounds).sorted().distinct().toArray();
+    }
+
+    // 필터 조건 (null 이면 조건 없음, categories 는 하나라도 일치하면 포함)
+    public record Filter(Integer minPrice, Integer maxPrice, Boolean sell, Collection<String> categories) {}
+
+    // 필터 결과 (페이지 + 전체 개수 + 카테고리/가격대별 개수)
+    // 카테고리 개수는 카테고리 조건만 빼고, 가격대 개수는 가격 조건만 빼고 센 값
+    public record Result(List<BoardListRow> rows, int total,
+                         Map<String, Integer> categoryCounts, List<Bucket> priceBuckets) {}
+
+    public record Bucket(int min, Integer max, int count) {}
+
+    // 개인화 피드 후보 (판매중 게시글 + 겹치는 카테고리 수)
+    public record Candidate(BoardListRow row, int overlap, long createdAtMillis) {}
+
+    // 게시글 컬럼 저장소
+    private static final class Columns {
+        int[] boardIds;
+        int[] prices;
+        long[] createdAt;           // epoch millis (정렬용)
+        BoardListRow[] rows;
+        int[][] categories;         // 슬롯 -> 카테고리 번호
+        final BitSet alive = new BitSet();
+        final BitSet sold = new BitSet();
+        final Map<Integer, Integer> slotOf = new HashMap<>();
+        final Map<String, Integer> categoryIds = new HashMap<>();
+        final List<String> categoryNames = new ArrayList<>();
+        final List<BitSet> postings = new ArrayList<>();
+        final Deque<Integer> freeSlots = new ArrayDeque<>();
+        int used = 0;
+
+        Columns(int capacity) {
+            boardIds = new int[capacity];
+            prices = new int[capacity];
+            createdAt = new long[capacity];
+            rows = new BoardListRow[capacity];
+            categories = new int[capacity][];
+        }
+
+        void put(BoardListRow row, List<String> categoryNames) {
+            remove(row.getId());
+            int slot;
+            if (!freeSlots.isEmpty()) {
+                slot = freeSlots.pop();
+            } else {
+                if (used == boardIds.length) grow();
+                slot = used++;
+            }
+
+            boardIds[slot] = row.getId();
+            prices[slot] = row.getPrice() == null ? NO_PRICE : row.getPrice();
+            createdAt[slot] = row.getCreatedAt() == null ? 0L : row.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+            rows[slot] = row;
+            alive.set(slot);
+            sold.set(slot, Boolean.TRUE.equals(row.getSell()));
+
+            int[] cats = categoryNames.stream().distinct().mapToInt(this::categoryId).toArray();
+            for (int c : cats) postings.get(c).set(slot);
+            categories[slot] = cats;
+            slotOf.put(row.getId(), slot);
+        }
+
+        void remove(Integer boardId) {
+            Integer slot = slotOf.remove(boardId);
+            if (slot == null) return;
+            for (int c : categories[slot]) postings.get(c).clear(slot);
+            categories[slot] = null;
+            rows[slot] = null;
+            alive.clear(slot);
+            sold.clear(slot);
+            freeSlots.push(slot);
+        }
+
+        private int categoryId(String name) {
+            return categoryIds.computeIfAbsent(name, k -> {
+                categoryNames.add(k);
+                postings.add(new BitSet());
+                return categoryNames.size() - 1;
+            });
+        }
+
+        private void grow() {
+            int n = boardIds.length * 2;
+            boardIds = Arrays.copyOf(boardIds, n);
+            prices = Arrays.copyOf(prices, n);
+            createdAt = Arrays.copyOf(createdAt, n);
+            rows = Arrays.copyOf(rows, n);
+            categories = Arrays.copyOf(categories, n);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 전체 재구성
+    @Override
+    protected Runnable build(List<BoardSnapshot> all) {
+        Columns next = new Columns(Math.max(INITIAL_CAPACITY, all.size()));
+        for (BoardSnapshot board : all) next.put(board.row(), board.categories());
+
+        return () -> {
+            lock.writeLock().lock();
+            try {
+                cols = next;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("필터 인덱스 재구성: boards={}, categories={}", next.slotOf.size(), next.categoryNames.size());
+        };
+    }
+
+    // 게시글 하나 다시 반영 (없으면 제거)
+    @Override
+    protected void patch(BoardSnapshot board) {
+        lock.writeLock().lock();
+        try {
+            if (board.exists()) cols.put(board.row(), board.categories());
+            else cols.remove(board.boardId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 조건 필터 + 개수 집계 (최신순 페이지)
+    public Result filter(Filter f, int page, int size) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            Columns c = cols;
+
+            // 판매 상태
+            BitSet base = (BitSet) c.alive.clone();
+            if (f.sell() != null) {
+                if (f.sell()) base.and(c.sold);
+                else base.andNot(c.sold);
+            }
+
+            // 가격 범위
+            BitSet priced = base;
+            if (f.minPrice() != null || f.maxPrice() != null) {
+                priced = new BitSet();
+                for (int s = base.nextSetBit(0); s >= 0; s = base.nextSetBit(s + 1)) {
+                    if (inRange(c.prices[s], f.minPrice(), f.maxPrice())) priced.set(s);
+                }
+            }
+
+            // 카테고리 (선택한 카테고리 중 하나라도)
+            BitSet categoryMask = null;
+            if (f.categories() != null && !f.categories().isEmpty()) {
+                categoryMask = new BitSet();
+                for (String name : f.categories()) {
+                    Integer id = c.categoryIds.get(name);
+                    if (id != null) categoryMask.or(c.postings.get(id));
+                }
+            }
+
+            BitSet matched = (BitSet) priced.clone();
+            if (categoryMask != null) matched.and(categoryMask);
+
+            // 카테고리별 개수 (카테고리 조건 제외)
+            Map<String, Integer> categoryCounts = new LinkedHashMap<>();
+            Integer[] order = new Integer[c.categoryNames.size()];
+            int[] counts = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                BitSet bs = (BitSet) c.postings.get(i).clone();
+                bs.and(priced);
+                counts[i] = bs.cardinality();
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> counts[b] - counts[a]);
+            for (int i : order) {
+                if (counts[i] > 0) categoryCounts.put(c.categoryNames.get(i), counts[i]);
+            }
+
+            // 가격대별 개수 (가격 조건 제외)
+            BitSet unpriced = (BitSet) base.clone();
+            if (categoryMask != null) unpriced.and(categoryMask);
+            int[] bucketCounts = new int[bucketBounds.length];
+            for (int s = unpriced.nextSetBit(0); s >= 0; s = unpriced.nextSetBit(s + 1)) {
+                int b = bucketOf(c.prices[s]);
+                if (b >= 0) bucketCounts[b]++;
+            }
+            List<Bucket> buckets = new ArrayList<>(bucketBounds.length);
+            for (int b = 0; b < bucketBounds.length; b++) {
+                Integer max = b + 1 < bucketBounds.length ? bucketBounds[b + 1] : null;
+                buckets.add(new Bucket(bucketBounds[b], max, bucketCounts[b]));
+            }
+
+            // 최신순 정렬 후 페이지
+            int total = matched.cardinality();
+            Integer[] sorted = matched.stream().boxed().toArray(Integer[]::new);
+            Arrays.sort(sorted, (a, b) -> {
+                int cmp = Long.compare(c.createdAt[b], c.createdAt[a]);
+                return cmp != 0 ? cmp : Integer.compare(c.boardIds[b], c.boardIds[a]);
+            });
+            int from = (int) Math.min((long) page * size, total);
+            int to = Math.min(from + size, total);
+            List<BoardListRow> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) rows.add(c.rows[sorted[i]]);
+
+            return new Result(rows, total, categoryCounts, buckets);
+        } finally {
+            lock.readLock().unlock();
+            queries.increment();
+            queryNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // 주어진 카테고리 중 하나 이상에 속한 판매중 게시글과 겹치는 카테고리 수
+    public List<Candidate> candidates(Collection<String> categories) {
+        lock.readLock().lock();
+        try {
+            Columns c = cols;
+            Map<Integer, Integer> overlap = new HashMap<>();
+            for (String name : categories) {
+                Integer id = c.categoryIds.get(name);
+                if (id == null) continue;
+                BitSet onSale = (BitSet) c.postings.get(id).clone();
+                onSale.andNot(c.sold);
+                for (int s = onSale.nextSetBit(0); s >= 0; s = onSale.nextSetBit(s + 1)) overlap.merge(s, 1, Integer::sum);
+            }
+
+            List<Candidate> list = new ArrayList<>(overlap.size());
+            overlap.forEach((s, n) -> list.add(new Candidate(c.rows[s], n, c.createdAt[s])));
+            return list;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 판매중 게시글 최신순 (개인화 카테고리가 없는 사용자용)
+    public List<BoardListRow> latestOnSale(int limit) {
+        lock.readLock().lock();
+        try {
+            Columns c = cols;
+            BitSet onSale = (BitSet) c.alive.clone();
+            onSale.andNot(c.sold);
+            return onSale.stream().boxed()
+                    .sorted((a, b) -> {
+                        int cmp = Long.compare(c.createdAt[b], c.createdAt[a]);
+                        return cmp != 0 ? cmp : Integer.compare(c.boardIds[b], c.boardIds[a]);
+                    })
+                    .limit(limit)
+                    .map(s -> c.rows[s])
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean inRange(int price, Integer min, Integer max) {
+        if (price == NO_PRICE) return false;
+        if (min != null && price < min) return false;
+        return max == null || price <= max;
+    }
+
+    private int bucketOf(int price) {
+        if (price == NO_PRICE || bucketBounds.length == 0 || price < bucketBounds[0]) return -1;
+        int i = Arrays.binarySearch(bucketBounds, price);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    @Override
+    public String statsName() {
+        return "board-facet";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        lock.readLock().lock();
+        try {
+            stats.put("boards", cols.slotOf.size());
+            stats.put("slots", cols.used);
+            stats.put("categories", cols.categoryNames.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        long n = queries.sum();
+        stats.put("queries", n);
+        stats.put("avgQueryMicros", n == 0 ? 0.0 : queryNanos.sum() / 1e3 / n);
+        stats.put("lastRebuildMillis", getLastRebuildMillis());
+        return stats;
+    }
+}
@@ -0,0 +1,117 @@
+package com.planty.service.board;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+
+// 판매 게시글 메모리 인덱스 공통 (전체 재구성과 게시글 변경 반영 순서를 한곳에서 관리)
+// 재구성은 겹쳐 돌지 않고, 새 구조를 잠금 없이 만든 뒤 교체하면서 그동안 들어온 변경을 다시 반영
+// 변경 기록은 전체 적재 전에 시작해야 함 (적재와 교체 사이 변경이 예전 구조에만 반영되고 사라지지 않도록)
+// 변경 반영은 인덱스마다 한 번에 하나 (BoardIndexUpdater 가 게시글을 한 번 읽어 나눠 줌)
+@Slf4j
+abstract class BoardIndexSupport {
+
+    private final String name;
+    private final Object applyLock = new Object();
+    private int recorders = 0;                                                                 // applyLock, 변경을 기록 중인 재구성 수
+    private final Map<Integer, BoardSnapshot> changedWhileRebuilding = new LinkedHashMap<>();  // applyLock
+    private volatile long lastRebuildMillis = 0;
+
+    protected BoardIndexSupport(String name) {
+        this.name = name;
+    }
+
+    // 비활성이면 재구성/변경 반영 모두 건너뜀
+    protected boolean isEnabled() {
+        return true;
+    }
+
+    // 주기적 전체 재구성 참여 여부 (false 면 시작 시에만, 또는 인덱스가 따로 재구성)
+    protected boolean rebuildsPeriodically() {
+        return true;
+    }
+
+    // 전체 재구성에 본문이 필요한지
+    protected boolean needsContent() {
+        return false;
+    }
+
+    // 전체 게시글로 새 구조를 만들고 교체 작업을 돌려줌 (잠금 없이 호출)
+    protected abstract Runnable build(List<BoardSnapshot> all);
+
+    // 게시글 하나 반영 (없으면 제거)
+    protected abstract void patch(BoardSnapshot board);
+
+    // 변경 반영이 끝난 뒤 잠금 밖에서 할 일 (DB 재조회 등, BoardIndexUpdater 가 게시글 잠금을 풀고 호출)
+    protected void runDeferred() {
+    }
+
+    // 전체 재구성 (여러 인덱스가 같은 적재 결과를 나눠 씀, 적재 전에 startRecording 으로 기록 시작해 둬야 함)
+    public void rebuild(List<BoardSnapshot> all) {
+        rebuild(() -> build(all));
+    }
+
+    // 전체 재구성 (겹쳐 돌지 않음, 교체와 그동안 들어온 변경 재반영은 변경 반영과 같은 잠금 안에서)
+    // builder 가 DB 를 읽는 경우 읽기 전부터 변경이 기록되도록 여기서도 기록 시작
+    protected final synchronized void rebuild(Supplier<Runnable> builder) {
+        if (!isEnabled()) return;
+        long start = System.currentTimeMillis();
+        startRecording();
+        try {
+            Runnable swap = builder.get();
+            synchronized (applyLock) {
+                swap.run();
+                // 기록된 값은 게시글별 최신 스냅샷이라 여러 번 반영해도 결과가 같음
+                for (BoardSnapshot board : changedWhileRebuilding.values()) {
+                    try {
+                        patch(board);
+                    } catch (Exception e) {
+                        log.warn("{} 재반영 실패: boardId={}", name, board.boardId(), e);
+                    }
+                }
+            }
+            lastRebuildMillis = System.currentTimeMillis() - start;
+            log.debug("{} 재구성: {}ms", name, lastRebuildMillis);
+        } finally {
+            stopRecording();
+        }
+    }
+
+    // 게시글 변경 기록 시작 (전체 적재 전에 호출, stopRecording 과 짝)
+    final void startRecording() {
+        if (!isEnabled()) return;
+        synchronized (applyLock) {
+            recorders++;
+        }
+    }
+
+    // 기록 종료 (기록 중인 재구성이 모두 끝나면 기록 비움)
+    final void stopRecording() {
+        if (!isEnabled()) return;
+        synchronized (applyLock) {
+            if (recorders > 0) recorders--;
+            if (recorders == 0) changedWhileRebuilding.clear();
+        }
+    }
+
+    // 게시글 변경 반영 (커밋 후, 재구성 중이면 교체 후 다시 반영하도록 기록)
+    final void apply(BoardSnapshot board) {
+        if (!isEnabled()) return;
+        synchronized (applyLock) {
+            if (recorders > 0) changedWhileRebuilding.put(board.boardId(), board);
+            patch(board);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+}
@@ -0,0 +1,110 @@
+package com.planty.service.board;
+
+import com.planty.repository.board.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+
+// 판매 게시글 메모리 인덱스 갱신 (게시글 변경마다 행/카테고리를 한 번만 읽어 모든 인덱스에 반영)
+// 전체 재구성도 한 번 적재해서 인덱스들이 나눠 씀 (시작 시 전부, 이후 주기적으로 참여하는 인덱스만)
+@Slf4j
+@Component
+public class BoardIndexUpdater {
+
+    private static final int STRIPES = 64;
+
+    private final BoardRepository boardRepository;
+    private final List<BoardIndexSupport> indexes;
+    private final BoardPersonalFeed boardPersonalFeed;
+    private final Object[] stripes = new Object[STRIPES];   // 같은 게시글 변경은 읽기 + 반영을 순서대로
+
+    public BoardIndexUpdater(BoardRepository boardRepository,
+                             List<BoardIndexSupport> indexes,
+                             BoardPersonalFeed boardPersonalFeed) {
+        this.boardRepository = boardRepository;
+        this.indexes = indexes;
+        this.boardPersonalFeed = boardPersonalFeed;
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Object();
+    }
+
+    // 게시글 변경 반영 (커밋 후, 인덱스 반영 뒤 개인화 피드 무효화)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        Integer boardId = event.getBoardId();
+        synchronized (stripes[Math.floorMod(boardId, STRIPES)]) {
+            BoardSnapshot board;
+            try {
+                board = BoardSnapshot.load(boardRepository, boardId);
+            } catch (Exception e) {
+                log.warn("게시글 인덱스 갱신용 조회 실패: boardId={}", boardId, e);
+                return;
+            }
+
+            for (BoardIndexSupport index : indexes) {
+                try {
+                    index.apply(board);
+                } catch (Exception e) {
+                    log.warn("{} 갱신 실패: boardId={}", index.getName(), boardId, e);
+                }
+            }
+            boardPersonalFeed.onBoardChanged(board);
+        }
+        runDeferred(indexes);
+    }
+
+    // 시작 시 전체 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        rebuild(indexes);
+    }
+
+    // 주기적 전체 재구성 (카테고리 테이블 변경 반영)
+    @Scheduled(fixedDelayString = "${board.index.rebuild-interval-millis:600000}",
+            initialDelayString = "${board.index.rebuild-interval-millis:600000}")
+    public void rebuildPeriodically() {
+        rebuild(indexes.stream().filter(BoardIndexSupport::rebuildsPeriodically).toList());
+    }
+
+    // 적재 전에 모든 대상의 변경 기록을 시작해서, 적재 ~ 교체 사이 변경도 교체 뒤 다시 반영
+    private synchronized void rebuild(List<BoardIndexSupport> targets) {
+        List<BoardIndexSupport> enabled = targets.stream().filter(BoardIndexSupport::isEnabled).toList();
+        if (enabled.isEmpty()) return;
+
+        enabled.forEach(BoardIndexSupport::startRecording);
+        try {
+            List<BoardSnapshot> all = BoardSnapshot.loadAll(boardRepository,
+                    enabled.stream().anyMatch(BoardIndexSupport::needsContent));
+            for (BoardIndexSupport index : enabled) {
+                try {
+                    index.rebuild(all);
+                } catch (Exception e) {
+                    log.warn("{} 재구성 실패", index.getName(), e);
+                }
+            }
+        } finally {
+            enabled.forEach(BoardIndexSupport::stopRecording);
+        }
+        runDeferred(enabled);
+    }
+
+    // 인덱스별 잠금 밖 후속 작업
+    private void runDeferred(List<BoardIndexSupport> targets) {
+        for (BoardIndexSupport index : targets) {
+            try {
+                index.runDeferred();
+            } catch (Exception e) {
+                log.warn("{} 후속 작업 실패", index.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.planty.service.board;
+
+import com.planty.common.ReadThroughCache;
+import com.planty.common.StatsSource;
+import com.planty.dto.board.BoardListRow;
+import com.planty.repository.board.BoardRepository;
+import com.planty.repository.crop.CropRepository;
+import com.planty.service.crop.UserCropsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZoneOffset;
+import java.util.*;
+
+
+// 개인화 판매 게시글 피드 (내 등록 작물 카테고리와 겹치는 판매중 게시글, 최신일수록 가중)
+// 후보는 필터 인덱스의 카테고리 비트셋에서 뽑고, 사용자별 정렬 결과를 캐시
+@Slf4j
+@Component
+public class BoardPersonalFeed implements StatsSource {
+
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    private final BoardFacetIndex boardFacetIndex;
+    private final BoardRepository boardRepository;
+    private final CropRepository cropRepository;
+    private final int maxCandidates;
+    private final double decayPerHour;      // ln2 / 반감기
+
+    private final ReadThroughCache<Integer, UserFeed> feeds;
+
+    public BoardPersonalFeed(BoardFacetIndex boardFacetIndex,
+                             BoardRepository boardRepository,
+                             CropRepository cropRepository,
+                             @Value("${board.personal-feed.half-life-hours:72}") double halfLifeHours,
+                             @Value("${board.personal-feed.max-candidates:200}") int maxCandidates,
+                             @Value("${board.personal-feed.cache-max-size:1000}") int cacheMaxSize,
+                             @Value("${board.personal-feed.cache-ttl-millis:300000}") long cacheTtlMillis) {
+        this.boardFacetIndex = boardFacetIndex;
+        this.boardRepository = boardRepository;
+        this.cropRepository = cropRepository;
+        this.maxCandidates = maxCandidates;
+        this.decayPerHour = Math.log(2) / halfLifeHours;
+        this.feeds = new ReadThroughCache<>("board-personal-feed", cacheMaxSize, cacheTtlMillis);
+    }
+
+    // 사용자 카테고리 + 정렬된 후보 게시글
+    private record UserFeed(Set<String> categories, List<BoardListRow> rows, Set<Integer> boardIds) {}
+
+    // 개인화 피드 페이지 (캐시 한 번 읽기, 필터 인덱스 적재 전이면 DB 에서 만들고 캐시하지 않음)
+    public List<BoardListRow> page(Integer userId, int page, int size) {
+        List<BoardListRow> rows = boardFacetIndex.isReady()
+                ? feeds.get(userId, () -> load(userId)).rows()
+                : loadFromDb(userId);
+        int from = (int) Math.min((long) page * size, rows.size());
+        return rows.subList(from, Math.min(from + size, rows.size()));
+    }
+
+    // 점수 = 겹치는 카테고리 수 * 2^(-경과 시간 / 반감기)
+    // 지수 감쇠라 두 게시글의 점수 비율이 시간이 지나도 변하지 않으므로 정렬 결과를 그대로 캐시
+    // (log 점수 = log(겹침) + λ * 작성 시각)
+    private UserFeed load(Integer userId) {
+        Set<String> categories = new HashSet<>(cropRepository.findRegisteredCategoryNamesByUserId(userId));
+        List<BoardListRow> rows;
+        if (categories.isEmpty()) {
+            // 등록 작물이 없으면 최신 판매중 게시글
+            rows = boardFacetIndex.latestOnSale(maxCandidates);
+        } else {
+            rows = rank(boardFacetIndex.candidates(categories));
+        }
+
+        Set<Integer> ids = new HashSet<>();
+        rows.forEach(r -> ids.add(r.getId()));
+        return new UserFeed(categories, rows, ids);
+    }
+
+    // 필터 인덱스 적재 전 대체 경로 (카테고리별 최신 판매중 게시글을 모아 겹치는 수 세기)
+    private List<BoardListRow> loadFromDb(Integer userId) {
+        Set<String> categories = new HashSet<>(cropRepository.findRegisteredCategoryNamesByUserId(userId));
+        if (categories.isEmpty()) {
+            return boardRepository.findFilteredRows(null, null, false, PageRequest.of(0, maxCandidates));
+        }
+
+        Map<Integer, BoardListRow> rows = new HashMap<>();
+        Map<Integer, Integer> overlap = new HashMap<>();
+        for (String name : categories) {
+            for (BoardListRow row : boardRepository.findOnSaleRowsByCategoryName(name, PageRequest.of(0, maxCandidates))) {
+                rows.putIfAbsent(row.getId(), row);
+                overlap.merge(row.getId(), 1, Integer::sum);
+            }
+        }
+        List<BoardFacetIndex.Candidate> candidates = new ArrayList<>(rows.size());
+        rows.forEach((id, row) -> candidates.add(new BoardFacetIndex.Candidate(row, overlap.get(id),
+                row.getCreatedAt() == null ? 0L : row.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli())));
+        return rank(candidates);
+    }
+
+    private List<BoardListRow> rank(Collection<BoardFacetIndex.Candidate> candidates) {
+        return candidates.stream()
+                .sorted(Comparator.<BoardFacetIndex.Candidate>comparingDouble(this::logScore).reversed()
+                        .thenComparing(c -> c.row().getId(), Comparator.reverseOrder()))
+                .limit(maxCandidates)
+                .map(BoardFacetIndex.Candidate::row)
+                .toList();
+    }
+
+    private double logScore(BoardFacetIndex.Candidate c) {
+        return Math.log(c.overlap()) + decayPerHour * (c.createdAtMillis() / MILLIS_PER_HOUR);
+    }
+
+    // 게시글 변경: 그 게시글이 피드에 있거나 카테고리가 겹치는 사용자만 무효화 (BoardIndexUpdater 가 필터 인덱스 반영 후 호출)
+    public void onBoardChanged(BoardSnapshot board) {
+        Integer boardId = board.boardId();
+        try {
+            Set<String> boardCategories = new HashSet<>(board.categories());
+            feeds.invalidateIf((userId, feed) -> feed.boardIds().contains(boardId)
+                    || feed.categories().isEmpty()
+                    || !Collections.disjoint(feed.categories(), boardCategories));
+        } catch (Exception e) {
+            log.warn("개인화 피드 무효화 실패: boardId={}", boardId, e);
+        }
+    }
+
+    // 등록 작물 변경: 해당 사용자만 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserCropsChanged(UserCropsChangedEvent event) {
+        feeds.invalidate(event.getUserId());
+    }
+
+    @Override
+    public String statsName() {
+        return "board-personal-feed";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        return feeds.getStats();
+    }
+}
@@ -0,0 +1,216 @@
+package com.planty.service.board;
+
+import com.planty.common.QuantileSketch;
+import com.planty.common.StatsSource;
+import com.planty.dto.board.PriceStatsResDto;
+import com.planty.repository.board.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+
+// 작물 카테고리별 판매 게시글 시세 (판매중 / 판매완료 가격 분위수 스케치, 메모리)
+// 게시글 등록/수정/판매 상태 변경은 이벤트로 이전 값 빼고 새 값 더하기 (BoardIndexUpdater)
+// 가격이 없는 게시글은 제외, 카테고리는 게시글마다 한 번씩만
+// 시작 시에는 공통 적재 결과로, 이후 매일 DB 한 번 흘려 읽어 재구성
+@Slf4j
+@Component
+public class BoardPriceStats extends BoardIndexSupport implements StatsSource {
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final double relativeAccuracy;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state;
+
+    public BoardPriceStats(BoardRepository boardRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${board.price-stats.relative-accuracy:0.01}") double relativeAccuracy) {
+        super("시세 스케치");
+        this.boardRepository = boardRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.relativeAccuracy = relativeAccuracy;
+        this.state = new State();
+    }
+
+    // 게시글 하나가 스케치에 반영된 값
+    private record Contribution(long price, boolean sold, List<String> categories) {}
+
+    private final class Sketches {
+        final QuantileSketch listed = new QuantileSketch(relativeAccuracy);
+        final QuantileSketch sold = new QuantileSketch(relativeAccuracy);
+
+        QuantileSketch of(boolean isSold) {
+            return isSold ? sold : listed;
+        }
+    }
+
+    private final class State {
+        final Map<String, Sketches> byCategory = new TreeMap<>();
+        final Map<Integer, Contribution> boards = new HashMap<>();
+
+        void apply(Integer boardId, Contribution c) {
+            if (c == null) return;
+            for (String name : c.categories()) {
+                byCategory.computeIfAbsent(name, k -> new Sketches()).of(c.sold()).add(c.price());
+            }
+            boards.put(boardId, c);
+        }
+
+        void retract(Integer boardId) {
+            Contribution c = boards.remove(boardId);
+            if (c == null) return;
+            for (String name : c.categories()) {
+                Sketches s = byCategory.get(name);
+                if (s == null) continue;
+                s.of(c.sold()).remove(c.price());
+                if (s.listed.getCount() == 0 && s.sold.getCount() == 0) byCategory.remove(name);
+            }
+        }
+    }
+
+    // 카테고리별 시세 (category 가 없으면 전체 카테고리)
+    public List<PriceStatsResDto> getPriceStats(String category) {
+        lock.readLock().lock();
+        try {
+            List<PriceStatsResDto> result = new ArrayList<>();
+            for (Map.Entry<String, Sketches> e : state.byCategory.entrySet()) {
+                if (category != null && !category.equals(e.getKey())) continue;
+                result.add(PriceStatsResDto.builder()
+                        .category(e.getKey())
+                        .listed(summarize(e.getValue().listed))
+                        .sold(summarize(e.getValue().sold))
+                        .build());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static PriceStatsResDto.Summary summarize(QuantileSketch s) {
+        return PriceStatsResDto.Summary.builder()
+                .count(s.getCount())
+                .mean(s.getCount() == 0 ? null : (int) Math.round(s.getMean()))
+                .median(round(s.quantile(0.5)))
+                .p10(round(s.quantile(0.1)))
+                .p90(round(s.quantile(0.9)))
+                .build();
+    }
+
+    private static Integer round(Double v) {
+        return v == null ? null : (int) Math.round(v);
+    }
+
+    // 주기적 공통 재구성 대신 매일 따로 재구성
+    @Override
+    protected boolean rebuildsPeriodically() {
+        return false;
+    }
+
+    // 시작 시 전체 재구성 (공통 적재 결과 사용)
+    @Override
+    protected Runnable build(List<BoardSnapshot> all) {
+        State next = new State();
+        for (BoardSnapshot board : all) {
+            next.apply(board.boardId(), toContribution(board));
+        }
+        return swap(next);
+    }
+
+    // 매일 DB 한 번 훑어 재구성 (게시글 id 순으로 흘려 읽으며 게시글별로 모음)
+    @Scheduled(cron = "${board.price-stats.rebuild-cron:0 30 4 * * *}")
+    public void rebuildDaily() {
+        rebuild(() -> {
+            State next = new State();
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = boardRepository.streamPriceRows()) {
+                    Integer[] current = {null};
+                    Object[][] first = {null};
+                    Set<String> categories = new LinkedHashSet<>();
+                    rows.forEach(r -> {
+                        Integer id = (Integer) r[0];
+                        if (!id.equals(current[0])) {
+                            if (current[0] != null) next.apply(current[0], toContribution(first[0], categories));
+                            current[0] = id;
+                            first[0] = r;
+                            categories.clear();
+                        }
+                        categories.add((String) r[3]);
+                    });
+                    if (current[0] != null) next.apply(current[0], toContribution(first[0], categories));
+                }
+            });
+            return swap(next);
+        });
+    }
+
+    private Runnable swap(State next) {
+        return () -> {
+            lock.writeLock().lock();
+            try {
+                state = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("시세 스케치 재구성: boards={}, categories={}", next.boards.size(), next.byCategory.size());
+        };
+    }
+
+    // 반영할 값 (가격이나 카테고리가 없으면 null)
+    private static Contribution toContribution(Object[] r, Set<String> categories) {
+        if (r[1] == null || categories.isEmpty()) return null;
+        return new Contribution(((Number) r[1]).longValue(), Boolean.TRUE.equals(r[2]), List.copyOf(categories));
+    }
+
+    private static Contribution toContribution(BoardSnapshot board) {
+        Integer price = board.row().getPrice();
+        if (price == null || board.categories().isEmpty()) return null;
+        return new Contribution(price, Boolean.TRUE.equals(board.row().getSell()), board.categories());
+    }
+
+    // 이전 반영값 빼고 현재 값 더하기 (삭제면 빼기만)
+    @Override
+    protected void patch(BoardSnapshot board) {
+        lock.writeLock().lock();
+        try {
+            state.retract(board.boardId());
+            if (board.exists()) state.apply(board.boardId(), toContribution(board));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "board-price-stats";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("relativeAccuracy", relativeAccuracy);
+        lock.readLock().lock();
+        try {
+            stats.put("boards", state.boards.size());
+            stats.put("categories", state.byCategory.size());
+            stats.put("bins", state.byCategory.values().stream()
+                    .mapToInt(s -> s.listed.getBinCount() + s.sold.getBinCount())
+                    .sum());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("lastRebuildMillis", getLastRebuildMillis());
+        return stats;
+    }
+}
@@ -0,0 +1,246 @@
+package com.planty.service.board;
+
+import com.planty.common.StatsSource;
+import com.planty.dto.board.BoardListRow;
+import com.planty.repository.board.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+// AI 챗봇 판매 게시글 추천 인덱스 (작물 카테고리명 -> 최신 판매중 게시글 상위 N개, 메모리)
+// 게시글 변경 이벤트로 증분 갱신, 카테고리 테이블 변경은 주기적 전체 재구성으로 반영 (BoardIndexUpdater)
+// 상위 N개 아래로 줄어든 카테고리의 DB 재조회는 변경 반영 잠금 밖에서 (runDeferred)
+@Slf4j
+@Component
+public class BoardRecommendIndex extends BoardIndexSupport implements StatsSource {
+
+    // 최신순 (작성일 desc, id desc)
+    private static final Comparator<BoardListRow> LATEST = Comparator
+            .comparing(BoardListRow::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BoardListRow::getId, Comparator.reverseOrder());
+
+    private final BoardRepository boardRepository;
+    private final boolean enabled;
+    private final int topN;
+    private final int capacity;     // 카테고리별 보관 개수 (삭제/판매완료 시 DB 재조회를 줄이기 위한 여유분 포함)
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, List<BoardListRow>> byCategory = new HashMap<>();   // 카테고리명 -> 최신순 판매중 게시글
+    private Map<Integer, List<String>> boardCategories = new HashMap<>();   // 게시글 id -> 반영된 카테고리명
+    private int refillsInFlight = 0;                                        // lock, 진행 중인 DB 재조회 수
+    private final Set<Integer> changedDuringRefill = new HashSet<>();       // lock, 재조회 중 변경된 게시글 (조회 결과로 덮지 않음)
+
+    private final Set<String> pendingRefills = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+
+    public BoardRecommendIndex(BoardRepository boardRepository,
+                               @Value("${board.recommend.enabled:true}") boolean enabled,
+                               @Value("${board.recommend.top-n:5}") int topN) {
+        super("추천 인덱스");
+        this.boardRepository = boardRepository;
+        this.enabled = enabled;
+        this.topN = topN;
+        this.capacity = topN * 2;
+    }
+
+    // 인덱스 사용 가능 여부 (비활성/적재 전이면 DB 조회)
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    // 메시지에 언급된 카테고리의 최신 판매중 게시글 상위 N개
+    // 메시지 자체가 카테고리명이면 바로 조회, 아니면 메시지에 포함된 카테고리명들을 합쳐 최신순
+    public List<BoardListRow> recommend(String text) {
+        long start = System.nanoTime();
+        String key = text == null ? "" : text.trim();
+
+        lock.readLock().lock();
+        try {
+            List<BoardListRow> exact = byCategory.get(key);
+            if (exact != null) return List.copyOf(exact.subList(0, Math.min(topN, exact.size())));
+
+            Map<Integer, BoardListRow> merged = new HashMap<>();
+            for (Map.Entry<String, List<BoardListRow>> e : byCategory.entrySet()) {
+                if (!key.contains(e.getKey())) continue;
+                for (BoardListRow row : e.getValue()) merged.putIfAbsent(row.getId(), row);
+            }
+            return merged.values().stream()
+                    .sorted(LATEST)
+                    .limit(topN)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+            lookups.increment();
+            lookupNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // 전체 재구성
+    @Override
+    protected Runnable build(List<BoardSnapshot> all) {
+        Map<String, List<BoardListRow>> lists = new HashMap<>();
+        Map<Integer, List<String>> categories = new HashMap<>();
+        for (BoardSnapshot board : all) {
+            if (!board.onSale() || board.categories().isEmpty()) continue;
+            for (String name : board.categories()) lists.computeIfAbsent(name, k -> new ArrayList<>()).add(board.row());
+            categories.put(board.boardId(), board.categories());
+        }
+        lists.replaceAll((name, list) -> trim(list.stream().sorted(LATEST).toList()));
+
+        return () -> {
+            lock.writeLock().lock();
+            try {
+                byCategory = lists;
+                boardCategories = categories;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+        };
+    }
+
+    // 기존 카테고리에서 빼고, 판매중이면 현재 카테고리에 다시 넣기
+    @Override
+    protected void patch(BoardSnapshot board) {
+        Integer boardId = board.boardId();
+        List<String> current = board.onSale() ? board.categories() : List.of();
+
+        List<String> shrunk = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            if (refillsInFlight > 0) changedDuringRefill.add(boardId);
+            for (String name : boardCategories.getOrDefault(boardId, List.of())) {
+                List<BoardListRow> list = byCategory.get(name);
+                if (list == null) continue;
+                List<BoardListRow> next = list.stream().filter(r -> !r.getId().equals(boardId)).toList();
+                if (next.size() == list.size()) continue;
+                if (next.isEmpty()) byCategory.remove(name);
+                else byCategory.put(name, next);
+                if (next.size() < topN && !current.contains(name)) shrunk.add(name);
+            }
+
+            if (!current.isEmpty()) {
+                for (String name : current) {
+                    List<BoardListRow> next = new ArrayList<>(byCategory.getOrDefault(name, List.of()));
+                    next.add(board.row());
+                    next.sort(LATEST);
+                    byCategory.put(name, trim(next));
+                }
+                boardCategories.put(boardId, current);
+            } else {
+                boardCategories.remove(boardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 상위 N개 아래로 줄어든 카테고리는 잠금을 푼 뒤 DB에서 다시 채우기
+        pendingRefills.addAll(shrunk);
+    }
+
+    // 대기 중인 카테고리 재조회 (BoardIndexUpdater 가 게시글 잠금 밖에서 호출)
+    @Override
+    protected void runDeferred() {
+        for (String name : List.copyOf(pendingRefills)) {
+            if (pendingRefills.remove(name)) refill(name);
+        }
+    }
+
+    // 조회는 잠금 없이, 결과는 현재 목록과 합쳐서 (조회 중 변경된 게시글은 이벤트 반영 결과를 유지)
+    private void refill(String name) {
+        lock.writeLock().lock();
+        try {
+            refillsInFlight++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<BoardListRow> rows = null;
+        try {
+            rows = boardRepository.findOnSaleRowsByCategoryName(name, PageRequest.of(0, capacity));
+            refills.increment();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rows != null) merge(name, rows);
+                if (--refillsInFlight == 0) changedDuringRefill.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // lock 안에서 호출
+    private void merge(String name, List<BoardListRow> rows) {
+        Map<Integer, BoardListRow> merged = new HashMap<>();
+        for (BoardListRow r : byCategory.getOrDefault(name, List.of())) merged.put(r.getId(), r);
+        for (BoardListRow r : rows) {
+            if (!changedDuringRefill.contains(r.getId())) merged.putIfAbsent(r.getId(), r);
+        }
+        if (merged.isEmpty()) {
+            byCategory.remove(name);
+            return;
+        }
+
+        List<BoardListRow> next = trim(merged.values().stream().sorted(LATEST).toList());
+        byCategory.put(name, next);
+        for (BoardListRow r : next) {
+            List<String> names = new ArrayList<>(boardCategories.getOrDefault(r.getId(), List.of()));
+            if (!names.contains(name)) names.add(name);
+            boardCategories.put(r.getId(), names);
+        }
+    }
+
+    private List<BoardListRow> trim(List<BoardListRow> sorted) {
+        return List.copyOf(sorted.size() > capacity ? sorted.subList(0, capacity) : sorted);
+    }
+
+    @Override
+    public String statsName() {
+        return "board-recommend";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("ready", ready);
+        stats.put("topN", topN);
+        lock.readLock().lock();
+        try {
+            stats.put("categories", byCategory.size());
+            stats.put("boards", boardCategories.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        long n = lookups.sum();
+        stats.put("lookups", n);
+        stats.put("avgLookupMicros", n == 0 ? 0.0 : lookupNanos.sum() / 1e3 / n);
+        stats.put("refills", refills.sum());
+        stats.put("pendingRefills", pendingRefills.size());
+        stats.put("lastRebuildMillis", getLastRebuildMillis());
+        return stats;
+    }
+}
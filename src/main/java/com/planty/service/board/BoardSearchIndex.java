@@ -0,0 +1,206 @@
+package com.planty.service.board;
+
+import com.planty.common.NgramTokenizer;
+import com.planty.common.StatsSource;
+import com.planty.dto.board.BoardListRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+// 판매 게시글 검색 인덱스 (제목/본문/작물 카테고리 n-gram 역색인, 메모리)
+// 시작 시 전체 적재, 이후 게시글 변경 이벤트로 증분 갱신 (BoardIndexUpdater)
+@Slf4j
+@Component
+public class BoardSearchIndex extends BoardIndexSupport implements StatsSource {
+
+    // 필드별 가중치 (제목 > 카테고리 > 본문)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Map<Integer, Integer>> postings = new HashMap<>();  // 토큰 -> (게시글 id -> 가중치)
+    private Map<Integer, Doc> docs = new HashMap<>();                       // 게시글 id -> 목록 행 + 토큰
+
+    private volatile boolean ready = false;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
+
+    public BoardSearchIndex(@Value("${board.search-index.enabled:true}") boolean enabled) {
+        super("검색 인덱스");
+        this.enabled = enabled;
+    }
+
+    private record Doc(BoardListRow row, Map<String, Integer> weights) {}
+
+    // 인덱스 사용 가능 여부 (비활성/적재 전이면 DB 검색)
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    // 시작 시에만 전체 적재 (이후는 변경 반영만)
+    @Override
+    protected boolean rebuildsPeriodically() {
+        return false;
+    }
+
+    @Override
+    protected boolean needsContent() {
+        return true;
+    }
+
+    // 전체 적재
+    @Override
+    protected Runnable build(List<BoardSnapshot> all) {
+        Map<String, Map<Integer, Integer>> newPostings = new HashMap<>();
+        Map<Integer, Doc> newDocs = new HashMap<>();
+        for (BoardSnapshot board : all) addDoc(newPostings, newDocs, board.boardId(), toDoc(board));
+
+        return () -> {
+            lock.writeLock().lock();
+            try {
+                postings = newPostings;
+                docs = newDocs;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("판매 게시글 검색 인덱스 적재 완료: boards={}, tokens={}", newDocs.size(), newPostings.size());
+        };
+    }
+
+    // 게시글 하나 다시 색인 (없으면 제거)
+    @Override
+    protected void patch(BoardSnapshot board) {
+        Doc doc = board.exists() ? toDoc(board) : null;
+
+        lock.writeLock().lock();
+        try {
+            removeDoc(board.boardId());
+            if (doc != null) addDoc(postings, docs, board.boardId(), doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색 (모든 검색어 토큰을 포함한 게시글만, 점수 → 최신순 정렬 후 페이지)
+    public List<BoardListRow> search(String keyword, int page, int size) {
+        long start = System.nanoTime();
+        try {
+            Set<String> tokens = NgramTokenizer.queryTokens(keyword);
+            if (tokens.isEmpty()) return List.of();
+
+            lock.readLock().lock();
+            try {
+                // 가장 짧은 posting 부터 교집합
+                List<Map<Integer, Integer>> lists = new ArrayList<>(tokens.size());
+                for (String token : tokens) {
+                    Map<Integer, Integer> list = postings.get(token);
+                    if (list == null) return List.of();
+                    lists.add(list);
+                }
+                lists.sort(Comparator.comparingInt(Map::size));
+
+                List<Scored> hits = new ArrayList<>();
+                for (Map.Entry<Integer, Integer> e : lists.get(0).entrySet()) {
+                    int score = e.getValue();
+                    boolean all = true;
+                    for (int i = 1; i < lists.size(); i++) {
+                        Integer w = lists.get(i).get(e.getKey());
+                        if (w == null) { all = false; break; }
+                        score += w;
+                    }
+                    if (all) hits.add(new Scored(docs.get(e.getKey()).row(), score));
+                }
+
+                hits.sort(Comparator.comparingInt(Scored::score).reversed()
+                        .thenComparing(s -> s.row().getCreatedAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(s -> s.row().getId(), Comparator.reverseOrder()));
+
+                return hits.stream()
+                        .skip((long) page * size)
+                        .limit(size)
+                        .map(Scored::row)
+                        .toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        } finally {
+            queries.increment();
+            queryNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private record Scored(BoardListRow row, int score) {}
+
+    // 필드별 토큰 가중치 합산
+    private Doc toDoc(BoardSnapshot board) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTokens(weights, board.row().getTitle(), TITLE_WEIGHT);
+        for (String name : board.categories()) addTokens(weights, name, CATEGORY_WEIGHT);
+        addTokens(weights, board.content(), CONTENT_WEIGHT);
+        return new Doc(board.row(), weights);
+    }
+
+    private static void addTokens(Map<String, Integer> weights, String text, int weight) {
+        for (String token : NgramTokenizer.indexTokens(text)) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static void addDoc(Map<String, Map<Integer, Integer>> postings, Map<Integer, Doc> docs,
+                               Integer boardId, Doc doc) {
+        docs.put(boardId, doc);
+        doc.weights().forEach((token, weight) ->
+                postings.computeIfAbsent(token, k -> new HashMap<>()).put(boardId, weight));
+    }
+
+    // 쓰기 락 안에서 호출
+    private void removeDoc(Integer boardId) {
+        Doc old = docs.remove(boardId);
+        if (old == null) return;
+        for (String token : old.weights().keySet()) {
+            Map<Integer, Integer> list = postings.get(token);
+            if (list == null) continue;
+            list.remove(boardId);
+            if (list.isEmpty()) postings.remove(token);
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "board-search";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("enabled", enabled);
+            stats.put("ready", ready);
+            stats.put("boards", docs.size());
+            stats.put("tokens", postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        long q = queries.sum();
+        stats.put("queries", q);
+        stats.put("avgQueryMillis", q == 0 ? 0.0 : queryNanos.sum() / 1e6 / q);
+        return stats;
+    }
+}
@@ -1,24 +1,34 @@
 package com.planty.service.board;
 
+import com.planty.common.EntityVersion;
+import com.planty.common.KeysetCursor;
 import com.planty.dto.board.*;
 import com.planty.entity.board.Board;
 import com.planty.entity.board.BoardImage;
 import com.planty.entity.crop.Crop;
 import com.planty.entity.diary.Diary;
 import com.planty.entity.diary.DiaryImage;
+import com.planty.entity.point.PointReason;
 import com.planty.entity.user.User;
 import com.planty.repository.board.BoardRepository;
+import com.planty.repository.board.BoardStatsRepository;
 import com.planty.repository.crop.CropRepository;
 import com.planty.repository.diary.DiaryRepository;
 import com.planty.repository.user.UserRepository;
-import com.planty.storage.StorageService;
+import com.planty.service.point.PointLedgerService;
+import com.planty.storage.FileDeletionOutbox;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -33,12 +43,26 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final CropRepository cropRepository;
-    private final StorageService storageService;
     private final DiaryRepository diaryRepository;
     private final ImageUrlMapper imageUrlMapper;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardFacetIndex boardFacetIndex;
+    private final BoardPersonalFeed boardPersonalFeed;
+    private final BoardSimilarIndex boardSimilarIndex;
+    private final BoardPriceStats boardPriceStats;
+    private final BoardCache boardCache;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardStatsRepository boardStatsRepository;
+    private final PointLedgerService pointLedgerService;
+    private final FileDeletionOutbox fileDeletionOutbox;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Integer MINUS_POINT = 200;
 
+    // 피드 페이지 크기 (기본/최대)
+    private static final int FEED_DEFAULT_SIZE = 20;
+    private static final int FEED_MAX_SIZE = 50;
+
     // 판매 가능한 작물 목록 불러오기 (harvest=true)
     @Transactional(Transactional.TxType.SUPPORTS)
     public List<BoardSellCropsResDto> getSellCrops(Integer userId) {
@@ -56,12 +80,6 @@ public class BoardService {
     // 판매 게시글 작성
     public void saveBoard(Integer userId, BoardSaveFormDto dto) {
         User user = userRepository.getReferenceById(userId);
-
-        // 보유 포인트가 적으면 실패
-        if (user.getPoint() < MINUS_POINT) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "NOT_ENOUGH_POINT");
-        }
-
         Crop crop = cropRepository.getReferenceById(dto.getCropId());
 
         // 판매 게시글 생성 및 데이터 삽입
@@ -83,19 +101,65 @@ public class BoardService {
             imgs.add(bi);
         }
         board.setImages(imgs);
+        board.setThumbnailImg(thumbnailOf(imgs));
 
         // 판매 게시글 저장
         boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangedEvent.saved(board.getId()));
 
-        // 유저 포인트 차감
-        user.setPoint(user.getPoint()-MINUS_POINT);
-
-        // 유저 포인트 저장
-        userRepository.save(user);
+        // 유저 포인트 차감 (조건부 UPDATE, 부족하면 NOT_ENOUGH_POINT 로 전체 롤백)
+        // users 행 잠금이 커밋 직전에만 잡히도록 마지막에 수행
+        pointLedgerService.withdraw(userId, MINUS_POINT, PointReason.BOARD_POST, board.getId());
     }
 
-    // 판매 게시글 상세 페이지 정보
+    // 판매 게시글 상세 페이지 정보 (캐시된 상세 + 소유자 여부)
     public BoardDetailResDto getBoardDetail(Integer id, Integer meId) {
+        BoardDetailResDto cached = boardCache.detail(id, () -> loadBoardDetail(id));
+
+        // 소유자 여부
+        boolean isOwner = cached.getSeller().getSellerId().equals(meId);
+
+        return BoardDetailResDto.builder()
+                .seller(cached.getSeller())
+                .board(cached.getBoard())
+                .isOwner(isOwner)
+                .build();
+    }
+
+    // 비슷한 판매중 게시글 (미리 계산된 이웃 목록, 상세 본문과 따로 조회)
+    public List<BoardAllResDto> getSimilarBoards(Integer id) {
+        return boardSimilarIndex.similar(id).stream()
+                .map(BoardAllResDto::of)
+                .map(dto -> {
+                    dto.setThumbnailImg(imageUrlMapper.toPublic(dto.getThumbnailImg()));
+                    return dto;
+                })
+                .toList();
+    }
+
+    // 판매 게시글 상세 조회 1회 기록 + 상세 버전 (조건부 GET, 없으면 null)
+    // 304 로 끝나는 재방문도 조회수에 포함되도록 버전 확인 전에 셈 (본인 조회는 제외, 메모리에서만 증가)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public EntityVersion viewBoardDetail(Integer id, Integer meId) {
+        List<Object[]> rows = boardRepository.findDetailVersion(id);
+        if (rows.isEmpty()) return null;
+        Object[] r = rows.get(0);
+        boolean isOwner = r[3].equals(meId);
+        if (!isOwner) boardViewCounter.increment(id);
+        return EntityVersion.of("b", id, isOwner ? "o" : "v",
+                (LocalDateTime) r[0], (LocalDateTime) r[1], (LocalDateTime) r[2]);
+    }
+
+    // 판매 게시글 조회수 (반영된 값 + 메모리에 모인 값)
+    public BoardViewCountResDto getViewCount(Integer id) {
+        return BoardViewCountResDto.builder()
+                .boardId(id)
+                .viewCount(boardViewCounter.getViewCount(id))
+                .build();
+    }
+
+    // 판매 게시글 상세 조회 (요청자와 무관한 부분)
+    private BoardDetailResDto loadBoardDetail(Integer id) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "NOT_FOUND"));
 
@@ -125,14 +189,9 @@ public class BoardService {
                 .images(images)
                 .build();
 
-        // 소유자 여부
-        boolean isOwner = board.getUser().getId().equals(meId);
-
-        // 프론트에 보내주는 Dto 반환
         return BoardDetailResDto.builder()
                 .seller(sellerDto)
                 .board(boardDetailDto)
-                .isOwner(isOwner)
                 .build();
     }
 
@@ -159,6 +218,9 @@ public class BoardService {
         if (dto.getContent() != null) board.setContent(dto.getContent());
         if (dto.getPrice() != null)   board.setPrice(dto.getPrice());
 
+        // 이미지만 바뀌어도 수정 시각 갱신 (조건부 GET 버전)
+        board.setModifiedAt(LocalDateTime.now());
+
         // 4) 이미지 동기화
         // 현재 이미지들
         List<BoardImage> currentImages = board.getImages() != null ? board.getImages() : new ArrayList<>();
@@ -178,8 +240,9 @@ public class BoardService {
             }
         }
 
+        // 파일은 커밋 후 삭제 (롤백되면 그대로 유지)
         for (BoardImage img : toRemove) {
-            try {storageService.deleteByUrl(img.getBoardImg()); } catch (Exception ignore) {}
+            fileDeletionOutbox.enqueue(img.getBoardImg());
         }
         currentImages.removeAll(toRemove); // DB 고아 삭제(orphanRemoval=true)와 함께
 
@@ -202,9 +265,11 @@ public class BoardService {
         // (3) 썸네일 재지정
         // 규칙: 최종 이미지 목록의 첫 번째 이미지를 thumbnail=true로
         setThumbnailByOrder(currentImages, keepSet, newUrls);
+        board.setThumbnailImg(thumbnailOf(currentImages));
 
         // 5) 저장
         boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangedEvent.saved(board.getId()));
     }
 
     // 이미지 썸네일 지정
@@ -237,6 +302,21 @@ public class BoardService {
         }
     }
 
+    // 썸네일 이미지 경로 (목록 조회용 컬럼 동기화)
+    private String thumbnailOf(List<BoardImage> images) {
+        return images.stream()
+                .filter(img -> Boolean.TRUE.equals(img.getThumbnail()))
+                .map(BoardImage::getBoardImg)
+                .findFirst()
+                .orElse(null);
+    }
+
+    // 썸네일 컬럼이 비어 있는 기존 게시글 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillThumbnails() {
+        boardRepository.backfillThumbnails();
+    }
+
     // 판매 상태 변경
     public void updateSellStatus(Integer boardId,
                             Integer meId,
@@ -250,6 +330,7 @@ public class BoardService {
 
         // 저장
         boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangedEvent.saved(board.getId()));
     }
 
     // 판매 게시글 삭제
@@ -257,8 +338,14 @@ public class BoardService {
         // 대상 게시글 조회 및 소유자 검증
         Board board = requireOwnBoard(boardId, meId);
 
+        // 이미지 파일은 커밋 후 삭제
+        for (BoardImage img : board.getImages()) {
+            fileDeletionOutbox.enqueue(img.getBoardImg());
+        }
+
         // 해당 게시글 삭제
         boardRepository.delete(board);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(boardId));
     }
 
     // 게시글 조회 및 소유자 검증
@@ -278,12 +365,10 @@ public class BoardService {
 
     // 판매자 포인트 열람
     public PointResDto getPoint(Integer meId){
-        // 판매자 조회
-        User user = userRepository.findById(meId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "NOT_FOUND"));
-
+        // 스냅샷 기반 잔액 (users 행을 읽지 않음)
         PointResDto pointResDto = PointResDto.builder()
                 .id(meId)
-                .point(user.getPoint())
+                .point(pointLedgerService.getBalance(meId))
                 .build();
 
         // 판매자 정보 및 보유 포인트 반환
@@ -292,7 +377,7 @@ public class BoardService {
 
     // 전체 게시글 목록
     public List<BoardAllResDto> getAllBoards() {
-        return boardRepository.findAllByOrderByCreatedAtDesc()
+        return boardCache.allRows(boardRepository::findAllRows)
                 .stream()
                 .map(BoardAllResDto::of)
                 .map(dto -> {
@@ -302,11 +387,102 @@ public class BoardService {
                 .toList();
     }
 
-    // 검색어로 판매 게시글 검색
-    public List<BoardAllResDto> searchBoards(String keyword) {
-        var list = (keyword == null || keyword.isBlank())
-                ? boardRepository.findAllByOrderByCreatedAtDesc()
-                : boardRepository.searchByKeyword("%" + keyword.trim() + "%");
+    // 판매 게시글 피드 (커서 기반, 최신순)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public BoardFeedResDto getBoardFeed(String cursor, Integer size) {
+        int limit = (size == null || size < 1) ? FEED_DEFAULT_SIZE : Math.min(size, FEED_MAX_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<BoardListRow> rows = (after == null)
+                ? boardCache.feedFirstPage(limit, () -> boardRepository.findFeedFirstPage(page))
+                : boardRepository.findFeedAfter(after.getCreatedAt(), after.getId(), page);
+
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
+
+        String nextCursor = null;
+        if (hasNext) {
+            BoardListRow last = rows.get(rows.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<BoardAllResDto> boards = rows.stream()
+                .map(BoardAllResDto::of)
+                .map(dto -> {
+                    dto.setThumbnailImg(imageUrlMapper.toPublic(dto.getThumbnailImg()));
+                    return dto;
+                })
+                .toList();
+
+        return BoardFeedResDto.builder()
+                .boards(boards)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 개인화 판매 게시글 피드 (내 작물 카테고리 겹침 + 최신순 가중)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<BoardAllResDto> getPersonalFeed(Integer userId, Integer page, Integer size) {
+        int limit = (size == null || size < 1) ? FEED_DEFAULT_SIZE : Math.min(size, FEED_MAX_SIZE);
+        int offset = (page == null || page < 0) ? 0 : page;
+
+        return boardPersonalFeed.page(userId, offset, limit)
+                .stream()
+                .map(BoardAllResDto::of)
+                .map(dto -> {
+                    dto.setThumbnailImg(imageUrlMapper.toPublic(dto.getThumbnailImg()));
+                    return dto;
+                })
+                .toList();
+    }
+
+    // 작물 카테고리별 시세 (판매중 / 판매완료 가격 분포, 메모리 인덱스 조회라 트랜잭션 불필요)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<PriceStatsResDto> getPriceStats(String category) {
+        return boardPriceStats.getPriceStats(category == null || category.isBlank() ? null : category.trim());
+    }
+
+    // 인기 판매 게시글 (board_stats 조회수순 페이지)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<BoardAllResDto> getPopularBoards(Integer page, Integer size) {
+        int limit = (size == null || size < 1) ? FEED_DEFAULT_SIZE : Math.min(size, FEED_MAX_SIZE);
+        int offset = (page == null || page < 0) ? 0 : page;
+
+        return boardStatsRepository.findPopularRows(PageRequest.of(offset, limit))
+                .stream()
+                .map(BoardAllResDto::of)
+                .map(dto -> {
+                    dto.setThumbnailImg(imageUrlMapper.toPublic(dto.getThumbnailImg()));
+                    return dto;
+                })
+                .toList();
+    }
+
+    // 검색어로 판매 게시글 검색 (인덱스 사용 가능하면 인덱스, 아니면 DB)
+    // page 가 없으면 기존처럼 전체 결과
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<BoardAllResDto> searchBoards(String keyword, Integer page, Integer size) {
+        int limit = (page == null) ? Integer.MAX_VALUE
+                : (size == null || size < 1) ? FEED_DEFAULT_SIZE : Math.min(size, FEED_MAX_SIZE);
+        int offset = (page == null || page < 0) ? 0 : page;
+
+        List<BoardListRow> list;
+        if (keyword == null || keyword.isBlank()) {
+            list = boardCache.allRows(boardRepository::findAllRows).stream()
+                    .skip((long) offset * limit)
+                    .limit(limit)
+                    .toList();
+        } else if (boardSearchIndex.isReady()) {
+            list = boardSearchIndex.search(keyword, offset, limit);
+        } else {
+            list = boardRepository.searchByKeyword("%" + keyword.trim() + "%").stream()
+                    .skip((long) offset * limit)
+                    .limit(limit)
+                    .toList();
+        }
 
         return list.stream()
                 .map(BoardAllResDto::of)
@@ -318,6 +494,63 @@ public class BoardService {
     }
 
 
+    // 가격/판매 상태/카테고리 조건으로 판매 게시글 필터 (최신순 페이지 + 카테고리/가격대별 개수)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public BoardFilterResDto filterBoards(Integer minPrice, Integer maxPrice, Boolean sell,
+                                          List<String> categories, Integer page, Integer size) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_PRICE_RANGE");
+        }
+        int limit = (size == null || size < 1) ? FEED_DEFAULT_SIZE : Math.min(size, FEED_MAX_SIZE);
+        int offset = (page == null || page < 0) ? 0 : page;
+
+        List<String> names = (categories == null) ? List.of() : categories.stream()
+                .filter(c -> c != null && !c.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+
+        // 시작 직후 적재 전이면 DB 에서 (요청 스레드에서 재구성하지 않음, 개수 집계는 생략)
+        BoardFacetIndex.Result result = boardFacetIndex.isReady()
+                ? boardFacetIndex.filter(new BoardFacetIndex.Filter(minPrice, maxPrice, sell, names), offset, limit)
+                : filterFromDb(minPrice, maxPrice, sell, names, offset, limit);
+
+        List<BoardAllResDto> boards = result.rows().stream()
+                .map(BoardAllResDto::of)
+                .map(dto -> {
+                    dto.setThumbnailImg(imageUrlMapper.toPublic(dto.getThumbnailImg()));
+                    return dto;
+                })
+                .toList();
+
+        return BoardFilterResDto.builder()
+                .boards(boards)
+                .total(result.total())
+                .categories(result.categoryCounts().entrySet().stream()
+                        .map(e -> new BoardFilterResDto.CategoryCount(e.getKey(), e.getValue()))
+                        .toList())
+                .priceBuckets(result.priceBuckets().stream()
+                        .map(b -> new BoardFilterResDto.PriceBucket(b.min(), b.max(), b.count()))
+                        .toList())
+                .build();
+    }
+
+    // 필터 인덱스 적재 전 대체 경로
+    private BoardFacetIndex.Result filterFromDb(Integer minPrice, Integer maxPrice, Boolean sell,
+                                                List<String> names, int offset, int limit) {
+        PageRequest page = PageRequest.of(offset, limit);
+        List<BoardListRow> rows;
+        long total;
+        if (names.isEmpty()) {
+            rows = boardRepository.findFilteredRows(minPrice, maxPrice, sell, page);
+            total = boardRepository.countFilteredRows(minPrice, maxPrice, sell);
+        } else {
+            rows = boardRepository.findFilteredRowsInCategories(minPrice, maxPrice, sell, names, page);
+            total = boardRepository.countFilteredRowsInCategories(minPrice, maxPrice, sell, names);
+        }
+        return new BoardFacetIndex.Result(rows, (int) total, Map.of(), List.of());
+    }
+
     // 판매 게시글의 재배 일지 목록
     public List<BoardDiaryResDto> getSellDiary(Integer boardId) {
         Integer cropId = boardRepository.findCropIdByBoardId(boardId);
@@ -0,0 +1,271 @@
+package com.planty.service.board;
+
+import com.planty.common.StatsSource;
+import com.planty.dto.board.BoardListRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+// 비슷한 판매 게시글 (게시글별 상위 K개 이웃을 미리 계산해 두는 희소 유사도 행렬, 메모리)
+// 유사도 = 작물 카테고리 자카드 * (0.5 + 0.5 * 가격 근접도), 이웃은 판매중 게시글만
+// 카테고리별 후보는 최근 게시글 max-postings 개까지만 (넓은 카테고리에서도 행 하나 계산 비용이 일정)
+// 게시글 변경 이벤트로 영향받는 행만 다시 계산, 카테고리 테이블 변경/후보 목록 보충은 주기적 전체 재구성으로 반영
+// 재구성은 새 구조를 만들어 교체, 변경 반영은 잠금 밖에서 계산하고 쓰기 잠금은 결과 적용에만 (BoardIndexUpdater)
+@Slf4j
+@Component
+public class BoardSimilarIndex extends BoardIndexSupport implements StatsSource {
+
+    private final int topK;
+    private final int maxPostings;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder recomputedRows = new LongAdder();
+
+    public BoardSimilarIndex(@Value("${board.similar.top-k:6}") int topK,
+                             @Value("${board.similar.max-postings:200}") int maxPostings) {
+        super("비슷한 게시글");
+        this.topK = topK;
+        this.maxPostings = maxPostings;
+    }
+
+    private record Item(BoardListRow row, Set<String> categories) {
+        Item(BoardSnapshot board) {
+            this(board.row(), Set.copyOf(board.categories()));
+        }
+
+        boolean onSale() {
+            return !Boolean.TRUE.equals(row.getSell());
+        }
+    }
+
+    private record Neighbor(Integer boardId, double score) {}
+
+    private static final Comparator<Neighbor> BY_SCORE = Comparator
+            .comparingDouble(Neighbor::score).reversed()
+            .thenComparing(Neighbor::boardId, Comparator.reverseOrder());
+
+    // 게시글, 카테고리 역색인(판매중, 최근 게시글 순으로 상한 / 전체), 이웃 목록과 그 역방향
+    private static final class State {
+        final Map<Integer, Item> items = new HashMap<>();
+        final Map<String, TreeSet<Integer>> onSaleByCategory = new HashMap<>();
+        final Map<String, Set<Integer>> byCategory = new HashMap<>();       // 판매완료 포함 (이웃 목록을 가진 게시글 모두)
+        final Map<Integer, List<Neighbor>> neighbors = new HashMap<>();
+        final Map<Integer, Set<Integer>> neighborOf = new HashMap<>();    // 게시글 id -> 이 게시글을 이웃으로 가진 게시글들
+    }
+
+    // 비슷한 판매 게시글 (미리 계산된 목록 조회만)
+    public List<BoardListRow> similar(Integer boardId) {
+        lookups.increment();
+        lock.readLock().lock();
+        try {
+            List<Neighbor> list = state.neighbors.getOrDefault(boardId, List.of());
+            List<BoardListRow> rows = new ArrayList<>(list.size());
+            for (Neighbor n : list) {
+                Item item = state.items.get(n.boardId());
+                if (item != null) rows.add(item.row());
+            }
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 재구성
+    @Override
+    protected Runnable build(List<BoardSnapshot> all) {
+        State next = new State();
+        for (BoardSnapshot board : all) {
+            Item item = new Item(board);
+            next.items.put(board.boardId(), item);
+            addPostings(next, board.boardId(), item);
+        }
+        for (Integer id : next.items.keySet()) setNeighbors(next, id, compute(next, id));
+
+        return () -> {
+            lock.writeLock().lock();
+            try {
+                state = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+    }
+
+    // 등록/수정/판매완료/삭제된 게시글 하나 반영
+    // state 는 변경 반영/교체하는 쪽(한 번에 하나)만 바꾸므로 이웃 계산은 잠금 없이 읽고, 쓰기 잠금은 바꿀 때만
+    @Override
+    protected void patch(BoardSnapshot board) {
+        Integer boardId = board.boardId();
+        Item item = board.exists() ? new Item(board) : null;
+        State s = state;
+        Set<Integer> dependents = new HashSet<>(s.neighborOf.getOrDefault(boardId, Set.of()));
+
+        // 기존 위치에서 빼고 새 값 넣기
+        lock.writeLock().lock();
+        try {
+            Item previous = s.items.remove(boardId);
+            if (previous != null) removePostings(s, boardId, previous);
+            if (item != null) {
+                s.items.put(boardId, item);
+                addPostings(s, boardId, item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 바뀔 이웃 목록 계산 (잠금 밖)
+        Map<Integer, List<Neighbor>> updates = new HashMap<>();
+        if (item == null) {
+            updates.put(boardId, List.of());   // 삭제: 내 이웃 목록 제거
+        } else {
+            updates.put(boardId, compute(s, boardId));
+
+            // 판매중이면 카테고리가 겹치는 게시글(판매완료 포함)의 이웃 후보로 들어가는지 확인
+            if (item.onSale()) {
+                for (Integer other : related(s, item, boardId)) {
+                    if (dependents.contains(other)) continue;
+                    List<Neighbor> offered = offer(s, other, new Neighbor(boardId, score(s.items.get(other), item)));
+                    if (offered != null) updates.put(other, offered);
+                }
+            }
+        }
+
+        // 이 게시글을 이웃으로 갖고 있던 게시글은 점수/자격이 바뀌었으니 다시 계산
+        for (Integer other : dependents) {
+            if (s.items.containsKey(other)) updates.put(other, compute(s, other));
+        }
+
+        lock.writeLock().lock();
+        try {
+            updates.forEach((id, list) -> setNeighbors(s, id, list));
+            if (item == null) s.neighborOf.remove(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시글 하나의 이웃 목록 계산 (카테고리가 겹치는 판매중 게시글만 후보)
+    private List<Neighbor> compute(State s, Integer boardId) {
+        Item item = s.items.get(boardId);
+        PriorityQueue<Neighbor> top = new PriorityQueue<>(BY_SCORE.reversed());
+        for (Integer other : candidates(s, item, boardId)) {
+            top.add(new Neighbor(other, score(item, s.items.get(other))));
+            if (top.size() > topK) top.poll();
+        }
+        List<Neighbor> list = new ArrayList<>(top);
+        list.sort(BY_SCORE);
+        recomputedRows.increment();
+        return list;
+    }
+
+    // 목록이 덜 찼거나 마지막 이웃보다 점수가 높으면 끼워 넣은 목록 (바뀔 게 없으면 null)
+    private List<Neighbor> offer(State s, Integer boardId, Neighbor candidate) {
+        List<Neighbor> current = s.neighbors.getOrDefault(boardId, List.of());
+        if (current.size() >= topK && BY_SCORE.compare(candidate, current.get(current.size() - 1)) >= 0) return null;
+
+        List<Neighbor> list = new ArrayList<>(current);
+        list.removeIf(n -> n.boardId().equals(candidate.boardId()));
+        list.add(candidate);
+        list.sort(BY_SCORE);
+        return list.size() > topK ? list.subList(0, topK) : list;
+    }
+
+    private void setNeighbors(State s, Integer boardId, List<Neighbor> list) {
+        for (Neighbor n : s.neighbors.getOrDefault(boardId, List.of())) {
+            Set<Integer> back = s.neighborOf.get(n.boardId());
+            if (back != null && back.remove(boardId) && back.isEmpty()) s.neighborOf.remove(n.boardId());
+        }
+        if (list.isEmpty()) {
+            s.neighbors.remove(boardId);
+            return;
+        }
+        s.neighbors.put(boardId, List.copyOf(list));
+        for (Neighbor n : list) s.neighborOf.computeIfAbsent(n.boardId(), k -> new HashSet<>()).add(boardId);
+    }
+
+    private static Set<Integer> candidates(State s, Item item, Integer self) {
+        Set<Integer> ids = new HashSet<>();
+        for (String c : item.categories()) {
+            TreeSet<Integer> posted = s.onSaleByCategory.get(c);
+            if (posted != null) ids.addAll(posted);
+        }
+        ids.remove(self);
+        return ids;
+    }
+
+    // 카테고리가 겹치는 게시글 전체 (이 게시글을 이웃으로 받을 수 있는 행)
+    private static Set<Integer> related(State s, Item item, Integer self) {
+        Set<Integer> ids = new HashSet<>();
+        for (String c : item.categories()) ids.addAll(s.byCategory.getOrDefault(c, Set.of()));
+        ids.remove(self);
+        return ids;
+    }
+
+    // 판매중이면 카테고리별 최근(id 큰) 게시글 maxPostings 개만 유지
+    private void addPostings(State s, Integer boardId, Item item) {
+        for (String c : item.categories()) {
+            s.byCategory.computeIfAbsent(c, k -> new HashSet<>()).add(boardId);
+            if (!item.onSale()) continue;
+            TreeSet<Integer> ids = s.onSaleByCategory.computeIfAbsent(c, k -> new TreeSet<>());
+            ids.add(boardId);
+            if (ids.size() > maxPostings) ids.pollFirst();
+        }
+    }
+
+    private static void removePostings(State s, Integer boardId, Item item) {
+        for (String c : item.categories()) {
+            Set<Integer> all = s.byCategory.get(c);
+            if (all != null && all.remove(boardId) && all.isEmpty()) s.byCategory.remove(c);
+            Set<Integer> ids = s.onSaleByCategory.get(c);
+            if (ids != null && ids.remove(boardId) && ids.isEmpty()) s.onSaleByCategory.remove(c);
+        }
+    }
+
+    // 카테고리 자카드 * (0.5 + 0.5 * 가격 근접도(작은 가격 / 큰 가격))
+    private static double score(Item a, Item b) {
+        int shared = 0;
+        for (String c : a.categories()) if (b.categories().contains(c)) shared++;
+        int union = a.categories().size() + b.categories().size() - shared;
+        double jaccard = union == 0 ? 0.0 : (double) shared / union;
+
+        int pa = a.row().getPrice() == null ? 0 : a.row().getPrice();
+        int pb = b.row().getPrice() == null ? 0 : b.row().getPrice();
+        int hi = Math.max(pa, pb);
+        double price = hi <= 0 ? 1.0 : (double) Math.max(0, Math.min(pa, pb)) / hi;
+
+        return jaccard * (0.5 + 0.5 * price);
+    }
+
+    @Override
+    public String statsName() {
+        return "board-similar";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("topK", topK);
+        stats.put("maxPostings", maxPostings);
+        lock.readLock().lock();
+        try {
+            stats.put("boards", state.items.size());
+            stats.put("rows", state.neighbors.size());
+            stats.put("entries", state.neighbors.values().stream().mapToInt(List::size).sum());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("lookups", lookups.sum());
+        stats.put("recomputedRows", recomputedRows.sum());
+        stats.put("lastRebuildMillis", getLastRebuildMillis());
+        return stats;
+    }
+}
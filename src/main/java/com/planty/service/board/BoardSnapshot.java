@@ -0,0 +1,55 @@
+package com.planty.service.board;
+
+import com.planty.dto.board.BoardListRow;
+import com.planty.dto.board.BoardSearchRow;
+import com.planty.repository.board.BoardRepository;
+
+import java.util.*;
+
+
+// 메모리 인덱스 반영용 게시글 값 (목록 행 + 본문 + 작물 카테고리명)
+// row 가 null 이면 없는(삭제된) 게시글, content 는 본문이 필요한 적재에서만 채움
+public record BoardSnapshot(Integer boardId, BoardListRow row, String content, List<String> categories) {
+
+    public boolean exists() {
+        return row != null;
+    }
+
+    public boolean onSale() {
+        return row != null && !Boolean.TRUE.equals(row.getSell());
+    }
+
+    // 게시글 하나 (행 한 번 + 카테고리 한 번)
+    public static BoardSnapshot load(BoardRepository boardRepository, Integer boardId) {
+        Optional<BoardSearchRow> row = boardRepository.findSearchRow(boardId);
+        if (row.isEmpty()) return new BoardSnapshot(boardId, null, null, List.of());
+        return new BoardSnapshot(boardId, row.get().toListRow(), row.get().getContent(),
+                distinct(boardRepository.findCategoryNames(boardId)));
+    }
+
+    // 전체 게시글 (행 한 번 + 카테고리 한 번, 본문은 필요할 때만)
+    public static List<BoardSnapshot> loadAll(BoardRepository boardRepository, boolean withContent) {
+        Map<Integer, List<String>> categories = new HashMap<>();
+        for (Object[] r : boardRepository.findAllCategoryNames()) {
+            categories.computeIfAbsent((Integer) r[0], k -> new ArrayList<>()).add((String) r[1]);
+        }
+
+        List<BoardSnapshot> all = new ArrayList<>();
+        if (withContent) {
+            for (BoardSearchRow row : boardRepository.findAllSearchRows()) {
+                all.add(new BoardSnapshot(row.getId(), row.toListRow(), row.getContent(),
+                        distinct(categories.getOrDefault(row.getId(), List.of()))));
+            }
+        } else {
+            for (BoardListRow row : boardRepository.findAllRows()) {
+                all.add(new BoardSnapshot(row.getId(), row, null,
+                        distinct(categories.getOrDefault(row.getId(), List.of()))));
+            }
+        }
+        return all;
+    }
+
+    private static List<String> distinct(Collection<String> names) {
+        return List.copyOf(new LinkedHashSet<>(names));
+    }
+}
@@ -0,0 +1,122 @@
+package com.planty.service.board;
+
+import com.planty.common.NgramTokenizer;
+import com.planty.common.StatsSource;
+import com.planty.common.SuggestTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+// 판매 게시글 검색어 자동완성 (작물 카테고리명 + 게시글 제목, 빈도순)
+// 주기적으로 전체 재구성, 그 사이에는 게시글 변경 이벤트로 증분 반영 (BoardIndexUpdater)
+@Slf4j
+@Service
+public class BoardSuggestService extends BoardIndexSupport implements StatsSource {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final int topK;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private SuggestTrie trie;
+    private Map<Integer, List<String>> boardTerms = new HashMap<>();   // 게시글 id -> 반영된 단어 (제목 + 카테고리)
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+
+    public BoardSuggestService(@Value("${board.suggest.top-k:10}") int topK) {
+        super("자동완성 트라이");
+        this.topK = topK;
+        this.trie = new SuggestTrie(topK);
+    }
+
+    // 자동완성 조회 (DB 접근 없음)
+    public List<SuggestTrie.Suggestion> suggest(String prefix, Integer limit) {
+        long start = System.nanoTime();
+        int n = (limit == null || limit < 1) ? DEFAULT_LIMIT : Math.min(limit, topK);
+
+        lock.readLock().lock();
+        try {
+            return trie.suggest(NgramTokenizer.normalize(prefix), n);
+        } finally {
+            lock.readLock().unlock();
+            lookups.increment();
+            lookupNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // 전체 재구성
+    @Override
+    protected Runnable build(List<BoardSnapshot> all) {
+        Map<Integer, List<String>> terms = new HashMap<>();
+        for (BoardSnapshot board : all) terms.put(board.boardId(), termsOf(board));
+
+        SuggestTrie newTrie = new SuggestTrie(topK);
+        terms.values().forEach(list -> list.forEach(term -> newTrie.put(NgramTokenizer.normalize(term), term, 1)));
+        newTrie.computeTopK();
+
+        return () -> {
+            lock.writeLock().lock();
+            try {
+                trie = newTrie;
+                boardTerms = terms;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+    }
+
+    // 게시글의 현재 단어와 이전에 반영된 단어 차이만큼 빈도 증감
+    @Override
+    protected void patch(BoardSnapshot board) {
+        List<String> current = board.exists() ? termsOf(board) : List.of();
+
+        lock.writeLock().lock();
+        try {
+            List<String> previous = boardTerms.getOrDefault(board.boardId(), List.of());
+            for (String term : previous) trie.adjust(NgramTokenizer.normalize(term), null, -1);
+            for (String term : current) trie.adjust(NgramTokenizer.normalize(term), term, 1);
+
+            if (current.isEmpty()) boardTerms.remove(board.boardId());
+            else boardTerms.put(board.boardId(), current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 제목 + 카테고리명
+    private static List<String> termsOf(BoardSnapshot board) {
+        List<String> terms = new ArrayList<>();
+        if (board.row().getTitle() != null) terms.add(board.row().getTitle());
+        terms.addAll(board.categories());
+        return terms;
+    }
+
+    @Override
+    public String statsName() {
+        return "board-suggest";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("terms", trie.size());
+            stats.put("boards", boardTerms.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        long n = lookups.sum();
+        stats.put("lookups", n);
+        stats.put("avgLookupMicros", n == 0 ? 0.0 : lookupNanos.sum() / 1e3 / n);
+        stats.put("lastRebuildMillis", getLastRebuildMillis());
+        return stats;
+    }
+}
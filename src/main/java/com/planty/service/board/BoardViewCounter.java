@@ -0,0 +1,171 @@
+package com.planty.service.board;
+
+import com.planty.common.StatsSource;
+import com.planty.repository.board.BoardStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+// 판매 게시글 조회수
+// 조회 시에는 게시글별 LongAdder 만 증가, 주기적으로 board_stats 에 일괄 upsert (종료 시에도 반영)
+// 반영된 값은 반영 후 DB 에서 다시 읽어 교체 (다른 서버에서 반영한 조회수도 다음 주기에 보임)
+@Slf4j
+@Component
+public class BoardViewCounter implements StatsSource {
+
+    // 없는(삭제된) 게시글은 건너뛰도록 board 에서 select 해서 insert
+    private static final String UPSERT_SQL = """
+        insert into board_stats (board_id, view_count, updated_at)
+        select id, ?, now() from board where id = ?
+        on duplicate key update view_count = board_stats.view_count + ?, updated_at = now()
+    """;
+
+    private final BoardStatsRepository boardStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();   // 게시글 id -> 아직 반영 안 된 조회수
+    private final Map<Integer, Long> flushed = new ConcurrentHashMap<>();        // 게시글 id -> 반영된 조회수 (조회한 게시글만)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();     // 반영값 교체와 대기값 차감을 한 번에 보이게
+
+    private final LongAdder views = new LongAdder();
+    private final LongAdder flushedViews = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long lastFlushMillis = 0;
+
+    public BoardViewCounter(BoardStatsRepository boardStatsRepository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager) {
+        this.boardStatsRepository = boardStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    // 조회 1회 (DB 접근 없음)
+    public void increment(Integer boardId) {
+        pending.computeIfAbsent(boardId, k -> new LongAdder()).increment();
+        views.increment();
+    }
+
+    // 현재 조회수 (반영된 값 + 대기 중인 값)
+    public long getViewCount(Integer boardId) {
+        lock.readLock().lock();
+        try {
+            Long base = flushed.get(boardId);
+            if (base != null) return base + pendingOf(boardId);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 처음 보는 게시글: 잠금 밖에서 DB 조회 (그 사이 반영이 끝났으면 반영 쪽 값이 우선)
+        long loaded = boardStatsRepository.findViewCount(boardId).orElse(0L);
+        lock.readLock().lock();
+        try {
+            Long base = flushed.putIfAbsent(boardId, loaded);
+            return (base == null ? loaded : base) + pendingOf(boardId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long pendingOf(Integer boardId) {
+        LongAdder adder = pending.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 모아 둔 조회수 일괄 반영
+    // 커밋 후에 읽은 만큼만 빼므로 반영 중에 들어온 조회는 다음 주기로 넘어가고, 실패하면 그대로 남음
+    @Scheduled(fixedDelayString = "${board.views.flush-interval-millis:10000}",
+            initialDelayString = "${board.views.flush-interval-millis:10000}")
+    @PreDestroy
+    public synchronized void flush() {
+        long start = System.currentTimeMillis();
+        List<Integer> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        for (Map.Entry<Integer, LongAdder> e : pending.entrySet()) {
+            long n = e.getValue().sum();
+            if (n == 0) continue;
+            ids.add(e.getKey());
+            deltas.add(n);
+        }
+        if (ids.isEmpty()) return;
+
+        // 반영 + 반영된 값 다시 읽기 (같은 트랜잭션)
+        Map<Integer, Long> refreshed;
+        try {
+            refreshed = tx.execute(status -> {
+                List<Object[]> args = new ArrayList<>(ids.size());
+                for (int i = 0; i < ids.size(); i++) args.add(new Object[]{deltas.get(i), ids.get(i), deltas.get(i)});
+                jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+
+                Map<Integer, Long> counts = new HashMap<>();
+                for (Object[] r : boardStatsRepository.findViewCounts(ids)) counts.put((Integer) r[0], (Long) r[1]);
+                return counts;
+            });
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("조회수 반영 실패: boards={}", ids.size(), e);
+            return;
+        }
+
+        // 대기값 차감 + 반영값 교체 (이번에 반영 안 된 게시글은 다음 조회 때 DB 에서 다시 읽음)
+        long total = 0;
+        lock.writeLock().lock();
+        try {
+            flushed.keySet().retainAll(refreshed.keySet());
+            flushed.putAll(refreshed);
+            for (int i = 0; i < ids.size(); i++) {
+                LongAdder adder = pending.get(ids.get(i));
+                if (adder != null) adder.add(-deltas.get(i));
+                total += deltas.get(i);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        flushedViews.add(total);
+        lastFlushMillis = System.currentTimeMillis() - start;
+        log.debug("조회수 반영: boards={}, views={}, {}ms", ids.size(), total, lastFlushMillis);
+    }
+
+    // 삭제된 게시글 카운터 정리 (커밋 후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (!event.isDeleted()) return;
+        pending.remove(event.getBoardId());
+        flushed.remove(event.getBoardId());
+    }
+
+    @Override
+    public String statsName() {
+        return "board-views";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("views", views.sum());
+        stats.put("flushedViews", flushedViews.sum());
+        stats.put("pendingBoards", pending.size());
+        stats.put("pendingViews", pending.values().stream().mapToLong(LongAdder::sum).sum());
+        stats.put("failures", failures.sum());
+        stats.put("lastFlushMillis", lastFlushMillis);
+        return stats;
+    }
+}
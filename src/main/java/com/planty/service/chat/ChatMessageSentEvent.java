@@ -0,0 +1,16 @@
+package com.planty.service.chat;
+
+import com.planty.dto.chat.ChatMessageDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+
+// 채팅 메시지 저장 이벤트 (커밋 후 웹소켓 전송용)
+@Getter
+@RequiredArgsConstructor
+public class ChatMessageSentEvent {
+    private final ChatMessageDto message;
+    private final List<Integer> participantIds;
+}
@@ -0,0 +1,109 @@
+package com.planty.service.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planty.common.StatsSource;
+import com.planty.dto.chat.ChatMessageDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+
+// 저장된 채팅 메시지를 웹소켓으로 전송 (커밋 후, 전용 스레드에서)
+// 채팅방 id 로 전송 스레드를 고정해 같은 방 메시지 순서 유지 (실제 전송은 세션별 대기열, 여기서는 넣기만 함)
+// 요청 스레드는 작업만 넘기고 반환, 대기열이 가득 차면 전송을 건너뜀 (메시지는 DB에 있으므로 재접속 시 조회)
+@Slf4j
+@Component
+public class ChatPushService implements StatsSource {
+
+    private final ChatSessionRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor[] lanes;
+
+    private final LongAdder pushed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public ChatPushService(ChatSessionRegistry registry,
+                           ObjectMapper objectMapper,
+                           @Value("${chat.ws.push-threads:4}") int threads,
+                           @Value("${chat.ws.push-queue-capacity:10000}") int queueCapacity) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+
+        this.lanes = new ThreadPoolExecutor[Math.max(1, threads)];
+        for (int i = 0; i < lanes.length; i++) {
+            String name = "chat-push-" + (i + 1);
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity / lanes.length)),
+                    r -> {
+                        Thread t = new Thread(r, name);
+                        t.setDaemon(true);
+                        return t;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    // 메시지 저장 커밋 후 전송
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        push(event.getMessage(), event.getParticipantIds());
+    }
+
+    // 채팅방을 보고 있는 세션 + 참여자 세션에 전송 (직렬화는 한 번만)
+    public void push(ChatMessageDto message, Collection<Integer> participantIds) {
+        TextMessage payload = toText(Map.of("type", "message", "message", message));
+        if (payload == null) return;
+
+        try {
+            lanes[Math.floorMod(message.getChatId().hashCode(), lanes.length)].execute(() -> {
+                for (WebSocketSession session : registry.recipients(message.getChatId(), participantIds)) {
+                    registry.send(session, payload);
+                }
+                pushed.increment();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("채팅 전송 대기열 초과: chatId={}, messageId={}", message.getChatId(), message.getId());
+        }
+    }
+
+    public TextMessage toText(Object body) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            log.warn("채팅 메시지 직렬화 실패", e);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) lane.shutdown();
+    }
+
+    @Override
+    public String statsName() {
+        return "chat-sockets";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(registry.getStats());
+        stats.put("pushed", pushed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("queued", Arrays.stream(lanes).mapToInt(l -> l.getQueue().size()).sum());
+        stats.put("lanes", lanes.length);
+        return stats;
+    }
+}
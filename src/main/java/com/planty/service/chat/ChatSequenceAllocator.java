@@ -0,0 +1,49 @@
+package com.planty.service.chat;
+
+import com.planty.common.StatsSource;
+import com.planty.repository.chat.ChatRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+
+// 채팅방별 메시지 순번 발급 (chat.last_seq 를 +1 하고 읽음)
+// 증가한 chat 행 잠금은 메시지 저장 트랜잭션이 끝날 때까지 유지 → 같은 채팅방 전송만 차례로, 커밋 순서 = 번호 순서
+// 롤백되면 증가도 함께 취소되어 빈 번호 없음, 서버가 여러 대여도 DB 행 하나가 기준이라 중복 없음
+@Component
+public class ChatSequenceAllocator implements StatsSource {
+
+    private final ChatRepository chatRepository;
+    private final LongAdder allocated = new LongAdder();
+
+    public ChatSequenceAllocator(ChatRepository chatRepository) {
+        this.chatRepository = chatRepository;
+    }
+
+    // 다음 번호 (메시지 저장 트랜잭션 안에서만 호출)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(Long chatId) {
+        if (chatRepository.incrementLastSeq(chatId) == 0) {
+            throw new IllegalStateException("채팅이 없습니다. chatId=" + chatId);
+        }
+        allocated.increment();
+        return chatRepository.findLastSeq(chatId);
+    }
+
+    @Override
+    public String statsName() {
+        return "chat-seq";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("allocated", allocated.sum());
+        return stats;
+    }
+}
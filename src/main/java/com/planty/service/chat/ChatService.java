@@ -1,29 +1,38 @@
 package com.planty.service.chat;
 
 import com.planty.dto.chat.ChatDto;
+import com.planty.dto.chat.ChatHistoryResDto;
 import com.planty.dto.chat.ChatMessageDto;
 import com.planty.dto.chat.ChatRoomDto;
 import com.planty.dto.chat.ParticipantDto;
 import com.planty.dto.user.BlockUserDto;
 import com.planty.entity.chat.Chat;
 import com.planty.entity.chat.ChatMessage;
+import com.planty.entity.chat.ChatRoomSummary;
 import com.planty.entity.chat.ChatUser;
 import com.planty.entity.user.BlockUser;
 import com.planty.entity.user.User;
 import com.planty.repository.chat.ChatMessageRepository;
 import com.planty.repository.chat.ChatRepository;
+import com.planty.repository.chat.ChatRoomSummaryRepository;
 import com.planty.repository.chat.ChatUserRepository;
 import com.planty.repository.user.BlockUserRepository;
 import com.planty.repository.user.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -32,8 +41,15 @@ public class ChatService {
     private final ChatRepository chatRepository;
     private final ChatUserRepository chatUserRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+    private final ChatSequenceAllocator chatSequenceAllocator;
     private final UserRepository userRepository;
     private final BlockUserRepository blockUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 채팅 기록 페이지 크기 (기본/최대)
+    private static final int HISTORY_DEFAULT_SIZE = 30;
+    private static final int HISTORY_MAX_SIZE = 100;
 
     // 채팅 시작
     @Transactional
@@ -50,6 +66,7 @@ public class ChatService {
             cu.setChat(chat);
             cu.setUser(user);
             chatUserRepository.save(cu);
+            chatRoomSummaryRepository.save(new ChatRoomSummary(chat.getId(), userId, chat.getCreatedAt()));
         }
 
         return new ChatDto(chat.getId(), userIds);
@@ -57,38 +74,110 @@ public class ChatService {
 
     // 채팅 기록 조회
     public List<ChatMessageDto> getChatMessages(Long chatId) {
-        return chatMessageRepository.findByChatIdOrderByCreatedAtAsc(chatId).stream()
+        List<ChatMessageDto> messages = chatMessageRepository.findByChatIdOrderBySeqAsc(chatId).stream()
                 .map(msg -> new ChatMessageDto(
                         msg.getId(),
                         msg.getChat().getId(),
+                        msg.getSeq(),
                         msg.getSender().getId(),
                         msg.getContent(),
-                        msg.getRead(),
+                        false,
                         msg.getChatImg(),
                         msg.getCreatedAt(),
                         msg.getModifiedAt()
                 )).toList();
+        applyReadCursors(chatId, messages);
+        return messages;
+    }
+
+    // 채팅 기록 페이지 조회 (순번 기준 before: 그 이전 메시지, after: 그 이후 새 메시지, 둘 다 없으면 최신)
+    public ChatHistoryResDto getChatHistory(Long chatId, Integer userId, Long before, Long after, Integer size) {
+        if (before != null && after != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+        }
+        if (!chatUserRepository.existsByChatIdAndUserId(chatId, userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "FORBIDDEN");
+        }
+        int limit = (size == null || size < 1) ? HISTORY_DEFAULT_SIZE : Math.min(size, HISTORY_MAX_SIZE);
+
+        // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<ChatMessageDto> rows;
+        if (after != null) {
+            rows = chatMessageRepository.findPageAfter(chatId, after, page);
+        } else if (before != null) {
+            rows = chatMessageRepository.findPageBefore(chatId, before, page);
+        } else {
+            rows = chatMessageRepository.findLatestPage(chatId, page);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<ChatMessageDto> messages = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        if (after == null) Collections.reverse(messages);   // 오래된 순으로
+        applyReadCursors(chatId, messages);
+
+        Long beforeCursor = null;
+        Long afterCursor = after;
+        if (!messages.isEmpty()) {
+            beforeCursor = messages.get(0).getSeq();
+            afterCursor = messages.get(messages.size() - 1).getSeq();
+        }
+        // 이전 페이지 조회일 때는 새 메시지 동기화 기준을 바꾸지 않음
+        if (before != null) afterCursor = null;
+
+        return ChatHistoryResDto.builder()
+                .messages(messages)
+                .beforeCursor(after != null || !hasMore ? null : beforeCursor)
+                .afterCursor(afterCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
     // 발신/수신 메시지 조회
     public List<ChatMessageDto> getMessagesBySender(Long chatId, Integer senderId) {
-        return chatMessageRepository.findByChatIdAndSenderId(chatId, senderId).stream()
+        List<ChatMessageDto> messages = chatMessageRepository.findByChatIdAndSenderId(chatId, senderId).stream()
                 .map(msg -> new ChatMessageDto(
                         msg.getId(),
                         msg.getChat().getId(),
+                        msg.getSeq(),
                         msg.getSender().getId(),
                         msg.getContent(),
-                        msg.getRead(),
+                        false,
                         msg.getChatImg(),
                         msg.getCreatedAt(),
                         msg.getModifiedAt()
                 )).toList();
+        applyReadCursors(chatId, messages);
+        return messages;
     }
 
+    // 읽음 처리 (내 읽음 커서 한 행만 갱신, seq 가 없거나 마지막 메시지보다 크면 마지막 메시지까지)
     @Transactional
-    public void readChat(Long chatId, Integer userId) {
-        int readed = chatMessageRepository.markAsRead(chatId, userId);
-        System.out.println("Updated " + readed);
+    public void readChat(Long chatId, Integer userId, Long seq) {
+        if (seq != null && seq < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_READ_POSITION");
+        }
+        Long latest = chatMessageRepository.findLatestSeq(chatId);
+        if (latest == null) return;
+        long readTo = (seq == null) ? latest : Math.min(seq, latest);
+        chatUserRepository.advanceReadCursor(chatId, userId, readTo);
+    }
+
+    // 메시지별 읽음 여부 = 보낸 사람 외 참여자 중 누군가의 읽음 커서가 그 메시지 순번 이상
+    private void applyReadCursors(Long chatId, List<ChatMessageDto> messages) {
+        if (messages.isEmpty()) return;
+        List<Object[]> cursors = chatUserRepository.findReadCursors(chatId);
+        for (ChatMessageDto m : messages) {
+            boolean read = false;
+            for (Object[] c : cursors) {
+                Long lastRead = (Long) c[1];
+                if (!c[0].equals(m.getSenderId()) && lastRead != null && m.getSeq() != null && lastRead >= m.getSeq()) {
+                    read = true;
+                    break;
+                }
+            }
+            m.setRead(read);
+        }
     }
 
     @Transactional
@@ -103,8 +192,12 @@ public class ChatService {
             throw new RuntimeException("채팅 권한이 없는 유저입니다.");
         }
 
+        // 순번 발급 (커밋까지 같은 채팅방 전송은 순서대로)
+        long seq = chatSequenceAllocator.next(chatId);
+
         ChatMessage message = new ChatMessage();
         message.setChat(chat);
+        message.setSeq(seq);
         message.setSender(sender);
         message.setContent(content);
         message.setRead(false);
@@ -112,10 +205,15 @@ public class ChatService {
         message.setModifiedAt(LocalDateTime.now());
 
         chatMessageRepository.save(message);
+        chatRoomSummaryRepository.applyMessage(chatId, message.getId(), seq, senderId,
+                preview(content), message.getChatImg(), message.getCreatedAt());
+        // 보낸 사람은 자기 메시지까지 읽은 것으로
+        chatUserRepository.advanceReadCursor(chatId, senderId, seq);
 
-        return new ChatMessageDto(
+        ChatMessageDto dto = new ChatMessageDto(
                 message.getId(),
                 chatId,
+                seq,
                 senderId,
                 content,
                 false,
@@ -123,6 +221,10 @@ public class ChatService {
                 message.getCreatedAt(),
                 message.getModifiedAt()
         );
+
+        // 커밋 후 웹소켓으로 전송
+        eventPublisher.publishEvent(new ChatMessageSentEvent(dto, chatUserRepository.findUserIdsByChatId(chatId)));
+        return dto;
     }
 
     @Transactional
@@ -137,8 +239,12 @@ public class ChatService {
             throw new RuntimeException("채팅 권한이 없는 유저입니다.");
         }
 
+        // 순번 발급 (커밋까지 같은 채팅방 전송은 순서대로)
+        long seq = chatSequenceAllocator.next(chatId);
+
         ChatMessage message = new ChatMessage();
         message.setChat(chat);
+        message.setSeq(seq);
         message.setSender(sender);
         message.setContent(content);
         message.setRead(false);
@@ -147,10 +253,15 @@ public class ChatService {
         message.setModifiedAt(LocalDateTime.now());
 
         chatMessageRepository.save(message);
+        chatRoomSummaryRepository.applyMessage(chatId, message.getId(), seq, senderId,
+                preview(content), message.getChatImg(), message.getCreatedAt());
+        // 보낸 사람은 자기 메시지까지 읽은 것으로
+        chatUserRepository.advanceReadCursor(chatId, senderId, seq);
 
-        return new ChatMessageDto(
+        ChatMessageDto dto = new ChatMessageDto(
                 message.getId(),
                 chatId,
+                seq,
                 senderId,
                 content,
                 false,
@@ -158,59 +269,70 @@ public class ChatService {
                 message.getCreatedAt(),
                 message.getModifiedAt()
         );
+
+        // 커밋 후 웹소켓으로 전송
+        eventPublisher.publishEvent(new ChatMessageSentEvent(dto, chatUserRepository.findUserIdsByChatId(chatId)));
+        return dto;
     }
 
-    // 내가 속한 채팅방 목록 조회
+    // 내가 속한 채팅방 목록 조회 (요약 테이블 1번 + 참여자 1번)
     public List<ChatRoomDto> getMyChatRooms(Integer userId) {
-        // 내가 참여한 ChatUser 레코드 조회
-        List<ChatUser> myChatUsers = chatUserRepository.findAllByUserId(userId);
-
-        return myChatUsers.stream().map(cu -> {
-            Chat chat = cu.getChat();
-
-            // 참여자 목록 (나 제외)
-            List<ParticipantDto> participants = chatUserRepository.findAllByChatId(chat.getId())
-                    .stream()
-                    .map(ChatUser::getUser)
-                    .filter(u -> !u.getId().equals(userId))
-                    .map(u -> new ParticipantDto(u.getId(), u.getNickname(), u.getProfileImg()))
-                    .toList();
+        List<Object[]> rooms = chatRoomSummaryRepository.findRoomsByUserId(userId);
+        if (rooms.isEmpty()) return List.of();
+
+        // 참여자 목록 (나 제외) + 참여자 중 가장 앞선 읽음 순번
+        Map<Long, List<ParticipantDto>> participants = new HashMap<>();
+        Map<Long, Long> peerReadSeq = new HashMap<>();
+        List<Long> chatIds = rooms.stream().map(r -> ((ChatRoomSummary) r[0]).getChatId()).toList();
+        for (Object[] r : chatUserRepository.findParticipantsByChatIds(chatIds, userId)) {
+            participants.computeIfAbsent((Long) r[0], k -> new ArrayList<>())
+                    .add(new ParticipantDto((Integer) r[1], (String) r[2], (String) r[3]));
+            if (r[4] != null) peerReadSeq.merge((Long) r[0], (Long) r[4], Math::max);
+        }
 
-            // 최신 메시지 조회
-            ChatMessage lastMessageEntity = chatMessageRepository.findTopByChatIdOrderByCreatedAtDesc(chat.getId())
-                    .orElse(null);
+        return rooms.stream().map(r -> {
+            ChatRoomSummary s = (ChatRoomSummary) r[0];
+            long myReadSeq = (r[1] == null) ? 0L : (Long) r[1];
 
             ChatMessageDto lastMessageDto = null;
             Integer countMessages = null;
-            if (lastMessageEntity != null) {
+            if (s.getLastMessageId() != null) {
+                boolean mine = userId.equals(s.getLastSenderId());
+                long readSeq = mine ? peerReadSeq.getOrDefault(s.getChatId(), 0L) : myReadSeq;
                 lastMessageDto = new ChatMessageDto(
-                        lastMessageEntity.getId(),
-                        chat.getId(),
-                        lastMessageEntity.getSender().getId(),
-                        lastMessageEntity.getContent(),
-                        lastMessageEntity.getRead(),
-                        lastMessageEntity.getChatImg(),
-                        lastMessageEntity.getCreatedAt(),
-                        lastMessageEntity.getModifiedAt()
+                        s.getLastMessageId(),
+                        s.getChatId(),
+                        s.getLastSeq(),
+                        s.getLastSenderId(),
+                        s.getLastPreview(),
+                        readSeq >= s.getLastSeq(),
+                        s.getLastChatImg(),
+                        s.getLastMessageAt(),
+                        s.getLastMessageAt()
                 );
-                if (!lastMessageDto.getSenderId().equals(userId)){
-                    countMessages = chatMessageRepository.countByChatIdAndSenderIdAndReadFalse(chat.getId(), lastMessageDto.getSenderId());
+                // 안 읽은 개수 = 마지막 순번 - 내 읽음 순번
+                if (!mine) {
+                    countMessages = (int) Math.max(0, s.getLastSeq() - myReadSeq);
                 }
             }
-
-
-
-
-            return new ChatRoomDto(chat.getId(), participants, lastMessageDto, countMessages);
+            return new ChatRoomDto(s.getChatId(), participants.getOrDefault(s.getChatId(), List.of()),
+                    lastMessageDto, countMessages);
         }).toList();
     }
 
+    // 목록 미리보기 (앞 100자, 이모지 등 서로게이트 쌍이 잘리지 않도록 코드 포인트 기준)
+    private static String preview(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= 100) return content;
+        return content.substring(0, content.offsetByCodePoints(0, 100));
+    }
+
     @Transactional
     public void deleteChatRoom(Long chatId, Integer userId) {
         ChatUser chatUser = chatUserRepository.findByChatIdAndUserId(chatId, userId)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없거나 참여자가 아닙니다."));
 
+        chatRoomSummaryRepository.deleteByChatId(chatId);
         chatMessageRepository.deleteByChatId(chatId);
         chatUserRepository.deleteByChatId(chatId);
         chatRepository.deleteById(chatId);
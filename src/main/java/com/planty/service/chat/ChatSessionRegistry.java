@@ -0,0 +1,263 @@
+package com.planty.service.chat;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.NativeWebSocketSession;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+
+// 채팅 웹소켓 세션 목록 (사용자 id별, 채팅방 id별)
+// 세션마다 보낼 메시지 대기열을 두고 한 번에 하나씩 비동기 전송, 보내는 쪽은 대기열에 넣고 바로 반환
+// 대기열 크기 또는 전송 중 시간이 제한을 넘으면 그 세션만 끊음 (느린 클라이언트가 다른 세션/채팅방을 막지 않음)
+@Slf4j
+@Component
+public class ChatSessionRegistry {
+
+    public static final String ATTR_USER_ID = "chat.userId";
+    private static final String ATTR_CHATS = "chat.subscriptions";
+
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimit;
+    private final ExecutorService sendExecutor;   // 비동기 전송이 없는 세션의 전송 + 다음 메시지 이어 보내기
+
+    private final Map<String, Outbound> byId = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<WebSocketSession>> byUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<WebSocketSession>> byChat = new ConcurrentHashMap<>();
+
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public ChatSessionRegistry(@Value("${chat.ws.send-time-limit-millis:5000}") int sendTimeLimitMillis,
+                               @Value("${chat.ws.buffer-size-limit:524288}") int bufferSizeLimit,
+                               @Value("${chat.ws.send-threads:8}") int sendThreads) {
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendExecutor = Executors.newFixedThreadPool(Math.max(1, sendThreads), r -> {
+            Thread t = new Thread(r, "chat-send");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // 세션별 보낼 메시지 대기열 (전송 중인 메시지는 항상 하나)
+    private static final class Outbound {
+        final WebSocketSession session;
+        final Session nativeSession;          // null 이면 sendExecutor 에서 블로킹 전송
+        final Queue<TextMessage> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger bufferedBytes = new AtomicInteger();
+        final AtomicBoolean inFlight = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        volatile long inFlightSince = 0;
+
+        Outbound(WebSocketSession session, Session nativeSession) {
+            this.session = session;
+            this.nativeSession = nativeSession;
+        }
+    }
+
+    // 연결 등록 (핸드셰이크에서 확인한 사용자 id 기준)
+    public WebSocketSession register(WebSocketSession session) {
+        Integer userId = userIdOf(session);
+
+        Session nativeSession = null;
+        if (session instanceof NativeWebSocketSession n) {
+            nativeSession = n.getNativeSession(Session.class);
+            if (nativeSession != null) nativeSession.getAsyncRemote().setSendTimeout(sendTimeLimitMillis);
+        }
+
+        session.getAttributes().put(ATTR_CHATS, ConcurrentHashMap.<Long>newKeySet());
+        byId.put(session.getId(), new Outbound(session, nativeSession));
+        byUser.compute(userId, (k, set) -> add(set, session));
+        connected.increment();
+        return session;
+    }
+
+    public WebSocketSession get(String sessionId) {
+        Outbound o = byId.get(sessionId);
+        return o == null ? null : o.session;
+    }
+
+    public void subscribe(WebSocketSession session, Long chatId) {
+        if (!byId.containsKey(session.getId())) return;
+        chatsOf(session).add(chatId);
+        byChat.compute(chatId, (k, set) -> add(set, session));
+    }
+
+    public void unsubscribe(WebSocketSession session, Long chatId) {
+        chatsOf(session).remove(chatId);
+        byChat.computeIfPresent(chatId, (k, set) -> remove(set, session));
+    }
+
+    // 연결 해제 (여러 번 불려도 됨)
+    public void unregister(String sessionId) {
+        Outbound o = byId.remove(sessionId);
+        if (o == null) return;
+        o.closed.set(true);
+        o.queue.clear();
+        byUser.computeIfPresent(userIdOf(o.session), (k, set) -> remove(set, o.session));
+        for (Long chatId : chatsOf(o.session)) {
+            byChat.computeIfPresent(chatId, (k, set) -> remove(set, o.session));
+        }
+    }
+
+    // 채팅방을 보고 있는 세션 + 참여자들의 다른 세션 (중복 제거)
+    public Set<WebSocketSession> recipients(Long chatId, Collection<Integer> userIds) {
+        Set<WebSocketSession> result = new HashSet<>(byChat.getOrDefault(chatId, Set.of()));
+        for (Integer userId : userIds) result.addAll(byUser.getOrDefault(userId, Set.of()));
+        return result;
+    }
+
+    // 전송 (대기열에 넣고 바로 반환, 버퍼/시간 제한 초과 시 세션 끊음)
+    public void send(WebSocketSession session, TextMessage message) {
+        Outbound o = byId.get(session.getId());
+        if (o == null || o.closed.get()) return;
+
+        long since = o.inFlightSince;
+        if (since > 0 && System.currentTimeMillis() - since > sendTimeLimitMillis) {
+            drop(o, "send time limit " + sendTimeLimitMillis + "ms");
+            return;
+        }
+        int size = message.getPayloadLength();
+        if (o.bufferedBytes.addAndGet(size) > bufferSizeLimit) {
+            drop(o, "buffer size limit " + bufferSizeLimit + " bytes");
+            return;
+        }
+        o.queue.add(message);
+        pump(o);
+    }
+
+    // 전송 중인 메시지가 없으면 다음 메시지 전송 시작
+    private void pump(Outbound o) {
+        while (!o.closed.get() && !o.queue.isEmpty()) {
+            if (!o.inFlight.compareAndSet(false, true)) return;
+            TextMessage next = o.queue.poll();
+            if (next == null) {
+                o.inFlight.set(false);
+                continue;   // 그 사이 들어온 메시지 재확인
+            }
+            o.inFlightSince = System.currentTimeMillis();
+            transmit(o, next);
+            return;
+        }
+    }
+
+    private void transmit(Outbound o, TextMessage message) {
+        if (o.nativeSession != null) {
+            try {
+                o.nativeSession.getAsyncRemote().sendText(message.getPayload(),
+                        result -> complete(o, message, result.isOK() ? null : result.getException()));
+            } catch (RuntimeException e) {
+                complete(o, message, e);
+            }
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> {
+                try {
+                    o.session.sendMessage(message);
+                    complete(o, message, null);
+                } catch (IOException | RuntimeException e) {
+                    complete(o, message, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            complete(o, message, e);
+        }
+    }
+
+    // 전송 완료 처리 후 다음 메시지 (완료 콜백이 보내는 쪽 스레드에서 바로 불려도 스택이 쌓이지 않게 다른 스레드로 넘김)
+    private void complete(Outbound o, TextMessage message, Throwable error) {
+        o.bufferedBytes.addAndGet(-message.getPayloadLength());
+        o.inFlightSince = 0;
+        o.inFlight.set(false);
+
+        if (error != null) {
+            if (o.closed.get()) return;
+            failed.increment();
+            unregister(o.session.getId());
+            closeQuietly(o.session, CloseStatus.SERVER_ERROR);
+            log.debug("채팅 전송 실패: session={}, {}", o.session.getId(), error.getMessage());
+            return;
+        }
+        sent.increment();
+        if (!o.queue.isEmpty()) {
+            try {
+                sendExecutor.execute(() -> pump(o));
+            } catch (RejectedExecutionException ignored) {
+                // 종료 중
+            }
+        }
+    }
+
+    private void drop(Outbound o, String reason) {
+        if (!o.closed.compareAndSet(false, true)) return;
+        dropped.increment();
+        unregister(o.session.getId());
+        closeQuietly(o.session, CloseStatus.SESSION_NOT_RELIABLE);
+        log.debug("느린 채팅 세션 끊음: session={}, {}", o.session.getId(), reason);
+    }
+
+    private static void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException | RuntimeException ignored) {
+            // 이미 닫힘
+        }
+    }
+
+    public static Integer userIdOf(WebSocketSession session) {
+        return (Integer) session.getAttributes().get(ATTR_USER_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Long> chatsOf(WebSocketSession session) {
+        Object chats = session.getAttributes().get(ATTR_CHATS);
+        return chats == null ? new HashSet<>() : (Set<Long>) chats;
+    }
+
+    private static Set<WebSocketSession> add(Set<WebSocketSession> set, WebSocketSession session) {
+        Set<WebSocketSession> s = (set == null) ? ConcurrentHashMap.newKeySet() : set;
+        s.add(session);
+        return s;
+    }
+
+    private static Set<WebSocketSession> remove(Set<WebSocketSession> set, WebSocketSession session) {
+        set.remove(session);
+        return set.isEmpty() ? null : set;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    // 지표
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sessions", byId.size());
+        stats.put("users", byUser.size());
+        stats.put("chats", byChat.size());
+        stats.put("connected", connected.sum());
+        stats.put("sent", sent.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("failed", failed.sum());
+        stats.put("bufferedBytes", byId.values().stream().mapToLong(o -> o.bufferedBytes.get()).sum());
+        stats.put("sendTimeLimitMillis", sendTimeLimitMillis);
+        stats.put("bufferSizeLimit", bufferSizeLimit);
+        return stats;
+    }
+}
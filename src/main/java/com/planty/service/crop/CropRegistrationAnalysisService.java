@@ -9,6 +9,7 @@ import com.planty.repository.crop.CropRepository;
 import com.planty.service.openai.OpenAIService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,6 +33,7 @@ public class CropRegistrationAnalysisService {
 
     private final CropRepository cropRepository;
     private final OpenAIService openAIService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 비동기 재배방법 분석 (작물 등록 시)
@@ -69,6 +71,9 @@ public class CropRegistrationAnalysisService {
                 }
 
                 cropRepository.save(crop);
+                if (Boolean.TRUE.equals(crop.getIsRegistered())) {
+                    eventPublisher.publishEvent(new UserCropsChangedEvent(crop.getUser().getId()));
+                }
 
             } catch (Exception e) {
                 log.error("재배방법 분석 중 오류 발생", e);
@@ -1,5 +1,6 @@
 package com.planty.service.crop;
 
+import com.planty.common.EntityVersion;
 import com.planty.dto.crop.CropRegistrationDto;
 import com.planty.dto.crop.HomeCropDto;
 import com.planty.entity.crop.AnalysisStatus;
@@ -7,9 +8,11 @@ import com.planty.entity.crop.Crop;
 import com.planty.entity.user.User;
 import com.planty.repository.crop.CropRepository;
 import com.planty.repository.user.UserRepository;
+import com.planty.storage.FileDeletionOutbox;
 import com.planty.storage.ImageUrlMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
@@ -39,6 +43,8 @@ public class CropService {
     private final UserRepository userRepository;
     private final ImageUrlMapper imageUrlMapper;
     private final DiaryRepository diaryRepository;
+    private final FileDeletionOutbox fileDeletionOutbox;
+    private final ApplicationEventPublisher eventPublisher;
  
     /**
      * 작물 이미지 업로드 및 분석 시작 (기존 방식 - 호환성 유지)
@@ -95,6 +101,17 @@ public class CropService {
                 .orElseThrow(() -> new IllegalArgumentException("작물을 찾을 수 없습니다."));
     }
 
+    // 작물 상세 버전 (조건부 GET, 없거나 본인 작물이 아니면 null)
+    @Transactional(readOnly = true)
+    public EntityVersion getCropDetailVersion(Integer cropId, Integer meId) {
+        List<Object[]> rows = cropRepository.findDetailVersion(cropId);
+        if (rows.isEmpty()) return null;
+        Object[] r = rows.get(0);
+        if (!r[1].equals(meId)) return null;
+        return EntityVersion.of("c", cropId, String.valueOf(r[3]),
+                (LocalDateTime) r[0], (LocalDateTime) r[2]);
+    }
+
 
     /**
      * 작물 태그별 진단 분석 (현재상태, 질병여부, 품질/시장성)
@@ -149,6 +166,7 @@ public class CropService {
             // 최종 등록 완료 처리
             tempCrop.setIsRegistered(true);
             Crop finalCrop = cropRepository.save(tempCrop);
+            eventPublisher.publishEvent(new UserCropsChangedEvent(user.getId()));
 
             log.info("작물 최종 등록 완료: Crop ID {}", finalCrop.getId());
 
@@ -197,19 +215,11 @@ public class CropService {
             throw new IllegalArgumentException("삭제 권한이 없습니다.");
         }
 
-        // 이미지 파일 삭제
-        if (crop.getCropImg() != null) {
-            try {
-                java.io.File imageFile = new java.io.File(crop.getCropImg());
-                if (imageFile.exists()) {
-                    imageFile.delete();
-                }
-            } catch (Exception e) {
-                log.warn("이미지 파일 삭제 실패: {}", crop.getCropImg(), e);
-            }
-        }
+        // 이미지 파일 삭제 (커밋 후)
+        fileDeletionOutbox.enqueue(crop.getCropImg());
 
         cropRepository.delete(crop);
+        eventPublisher.publishEvent(new UserCropsChangedEvent(user.getId()));
         log.info("작물 삭제 완료: Crop ID {}", cropId);
     }
 
@@ -246,18 +256,8 @@ public class CropService {
 
         // 이미지 파일이 있는 경우 이미지 업데이트
         if (imageFile != null && !imageFile.isEmpty()) {
-            // 기존 이미지 파일 삭제
-            if (crop.getCropImg() != null) {
-                try {
-                    java.io.File existingImageFile = new java.io.File(crop.getCropImg());
-                    if (existingImageFile.exists()) {
-                        existingImageFile.delete();
-                        log.info("기존 이미지 파일 삭제: {}", crop.getCropImg());
-                    }
-                } catch (Exception e) {
-                    log.warn("기존 이미지 파일 삭제 실패: {}", crop.getCropImg(), e);
-                }
-            }
+            // 기존 이미지 파일 삭제 (커밋 후)
+            fileDeletionOutbox.enqueue(crop.getCropImg());
 
             // 새 이미지 파일 저장
             String savedImagePath = registrationAnalysisService.saveImageFile(imageFile);
@@ -0,0 +1,12 @@
+package com.planty.service.crop;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+// 사용자의 등록 작물 변경 이벤트 (등록 완료/삭제, 커밋 후 개인화 피드 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class UserCropsChangedEvent {
+    private final Integer userId;
+}
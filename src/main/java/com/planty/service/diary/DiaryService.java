@@ -1,5 +1,6 @@
 package com.planty.service.diary;
 
+import com.planty.common.EntityVersion;
 import com.planty.dto.diary.*;
 import com.planty.dto.crop.HomeCropDto;
 import com.planty.entity.crop.AnalysisType;
@@ -11,15 +12,18 @@ import com.planty.repository.crop.CropRepository;
 import com.planty.repository.diary.DiaryRepository;
 import com.planty.repository.user.UserRepository;
 import com.planty.service.crop.CropService;
-import com.planty.storage.StorageService;
+import com.planty.storage.FileDeletionOutbox;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -33,8 +37,7 @@ public class DiaryService {
     private final UserRepository userRepository;
     private final CropRepository cropRepository;
     private final CropService cropService;
-    @SuppressWarnings("unused")
-    private final StorageService storageService;
+    private final FileDeletionOutbox fileDeletionOutbox;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // 재배일지 작성
@@ -74,6 +77,7 @@ public class DiaryService {
         if (imageUrls != null && !imageUrls.isEmpty()) {
             List<DiaryImage> imgs = createDiaryImages(savedDiary, imageUrls);
             savedDiary.setImages(imgs);
+            savedDiary.setThumbnailImg(thumbnailOf(imgs));
             diaryRepository.save(savedDiary); // 이미지와 함께 재저장
         }
     }
@@ -162,28 +166,22 @@ public class DiaryService {
                 .build();
     }
 
+    // 재배일지 상세 버전 (조건부 GET, 없으면 null)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public EntityVersion getDiaryDetailVersion(Integer id, Integer meId) {
+        List<Object[]> rows = diaryRepository.findDetailVersion(id);
+        if (rows.isEmpty()) return null;
+        Object[] r = rows.get(0);
+        boolean isOwner = r[3].equals(meId);
+        return EntityVersion.of("d", id, isOwner ? "o" : "v",
+                (LocalDateTime) r[0], (LocalDateTime) r[1], (LocalDateTime) r[2]);
+    }
+
     // 사용자별 재배일지 목록 조회
     public List<DiaryListDto> getUserDiaries(Integer userId) {
-        User user = userRepository.getReferenceById(userId);
-        List<Diary> diaries = diaryRepository.findByUserOrderByCreatedAtDesc(user);
-
-        return diaries.stream()
-                .map(diary -> {
-                    // 썸네일 이미지 찾기
-                    String thumbnailImage = diary.getImages().stream()
-                            .filter(DiaryImage::getThumbnail)
-                            .map(DiaryImage::getDiaryImg)
-                            .findFirst()
-                            .orElse(null);
-
-                    return DiaryListDto.builder()
-                            .diaryId(diary.getId())
-                            .title(diary.getTitle())
-                            .cropName(diary.getCrop().getName())
-                            .thumbnailImage(thumbnailImage)
-                            .createdAt(diary.getCreatedAt())
-                            .build();
-                })
+        return diaryRepository.findListRowsByUserId(userId)
+                .stream()
+                .map(DiaryListDto::of)
                 .toList();
     }
 
@@ -199,60 +197,23 @@ public class DiaryService {
                 .flatMap(crop -> crop.getCategories().stream())
                 .map(category -> category.getCategoryName())
                 .collect(Collectors.toSet());
+
+        if (userCategories.isEmpty()) {
+            return new ArrayList<>();
+        }
         
         // 같은 카테고리의 작물들을 가진 재배일지 조회
-        List<Diary> diaries = diaryRepository.findByUserOrderByCreatedAtDesc(user);
-        
-        return diaries.stream()
-                .filter(diary -> {
-                    // 재배일지의 작물이 사용자가 등록한 작물과 같은 카테고리를 가지고 있는지 확인
-                    Set<String> diaryCategories = diary.getCrop().getCategories().stream()
-                            .map(category -> category.getCategoryName())
-                            .collect(Collectors.toSet());
-                    
-                    // 교집합이 있는지 확인
-                    return diaryCategories.stream().anyMatch(userCategories::contains);
-                })
-                .map(diary -> {
-                    // 썸네일 이미지 찾기
-                    String thumbnailImage = diary.getImages().stream()
-                            .filter(DiaryImage::getThumbnail)
-                            .map(DiaryImage::getDiaryImg)
-                            .findFirst()
-                            .orElse(null);
-
-                    return DiaryListDto.builder()
-                            .diaryId(diary.getId())
-                            .title(diary.getTitle())
-                            .cropName(diary.getCrop().getName())
-                            .thumbnailImage(thumbnailImage)
-                            .createdAt(diary.getCreatedAt())
-                            .build();
-                })
+        return diaryRepository.findListRowsByUserIdAndCategories(userId, userCategories)
+                .stream()
+                .map(DiaryListDto::of)
                 .toList();
     }
 
     // 작물별 재배일지 목록 조회
     public List<DiaryListDto> getCropDiaries(Integer cropId) {
-        List<Diary> diaries = diaryRepository.findByCropIdOrderByCreatedAtDesc(cropId);
-
-        return diaries.stream()
-                .map(diary -> {
-                    // 썸네일 이미지 찾기
-                    String thumbnailImage = diary.getImages().stream()
-                            .filter(DiaryImage::getThumbnail)
-                            .map(DiaryImage::getDiaryImg)
-                            .findFirst()
-                            .orElse(null);
-
-                    return DiaryListDto.builder()
-                            .diaryId(diary.getId())
-                            .title(diary.getTitle())
-                            .cropName(diary.getCrop().getName())
-                            .thumbnailImage(thumbnailImage)
-                            .createdAt(diary.getCreatedAt())
-                            .build();
-                })
+        return diaryRepository.findListRowsByCropId(cropId)
+                .stream()
+                .map(DiaryListDto::of)
                 .toList();
     }
 
@@ -286,6 +247,9 @@ public class DiaryService {
         // 이미지 수정 처리
         updateDiaryImages(diary, dto, newImageUrls);
 
+        // 이미지만 바뀌어도 수정 시각 갱신 (조건부 GET 버전)
+        diary.setModifiedAt(LocalDateTime.now());
+
         // 재배일지 저장
         diaryRepository.save(diary);
     }
@@ -298,13 +262,8 @@ public class DiaryService {
         if (dto.getImagesToDelete() != null && !dto.getImagesToDelete().isEmpty()) {
             currentImages.removeIf(image -> {
                 if (dto.getImagesToDelete().contains(image.getDiaryImg())) {
-                    // 파일 시스템에서 이미지 삭제 시도
-                    try {
-                        // TODO: StorageService 삭제 기능 구현 후 활성화
-                        // storageService.delete(image.getDiaryImg());
-                    } catch (Exception e) {
-                        System.err.println("이미지 파일 삭제 실패: " + image.getDiaryImg() + " - " + e.getMessage());
-                    }
+                    // 이미지 파일은 커밋 후 삭제
+                    fileDeletionOutbox.enqueue(image.getDiaryImg());
                     return true;
                 }
                 return false;
@@ -338,6 +297,22 @@ public class DiaryService {
         }
 
         diary.setImages(currentImages);
+        diary.setThumbnailImg(thumbnailOf(currentImages));
+    }
+
+    // 썸네일 이미지 경로 (목록 조회용 컬럼 동기화)
+    private String thumbnailOf(List<DiaryImage> images) {
+        return images.stream()
+                .filter(img -> Boolean.TRUE.equals(img.getThumbnail()))
+                .map(DiaryImage::getDiaryImg)
+                .findFirst()
+                .orElse(null);
+    }
+
+    // 썸네일 컬럼이 비어 있는 기존 재배일지 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillThumbnails() {
+        diaryRepository.backfillThumbnails();
     }
 
     // 재배일지 삭제
@@ -350,16 +325,10 @@ public class DiaryService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "삭제 권한이 없습니다.");
         }
 
-        // 연관된 이미지 파일들을 파일 시스템에서 삭제
+        // 연관된 이미지 파일들은 커밋 후 삭제 (실패해도 DB 삭제는 진행, 워커가 재시도)
         if (diary.getImages() != null && !diary.getImages().isEmpty()) {
             for (DiaryImage image : diary.getImages()) {
-                try {
-                    // TODO 에러가 떠서 주석 처리 
-                    //  storageService.delete(image.getDiaryImg());
-                } catch (Exception e) {
-                    // 파일 삭제 실패는 로그만 남기고 진행 (DB 삭제는 계속 진행)
-                    System.err.println("이미지 파일 삭제 실패: " + image.getDiaryImg() + " - " + e.getMessage());
-                }
+                fileDeletionOutbox.enqueue(image.getDiaryImg());
             }
         }
 
@@ -4,19 +4,23 @@ package com.planty.service.mypage;
 import com.planty.dto.mypage.MyHarvestCropResDto;
 import com.planty.dto.mypage.MySellBoardResDto;
 import com.planty.dto.mypage.ProfileResDto;
-import com.planty.entity.board.Board;
+import com.planty.dto.board.BoardListRow;
 import com.planty.entity.crop.Crop;
 import com.planty.entity.user.User;
 import com.planty.repository.board.BoardRepository;
 import com.planty.repository.crop.CropRepository;
 import com.planty.repository.mypage.MypageRepository;
 import com.planty.repository.user.UserRepository;
+import com.planty.service.point.PointLedgerService;
+import com.planty.service.user.PasswordHashExecutor;
+import com.planty.service.user.UserAvailabilityService;
+import com.planty.service.user.UserProfileChangedEvent;
+import com.planty.storage.FileDeletionOutbox;
 import com.planty.storage.StorageService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,9 +42,11 @@ public class MypageService {
     private final UserRepository userRepository;
     private final StorageService storageService;
     private final ImageUrlMapper imageUrlMapper;
-
-    @Autowired
-    private PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final UserAvailabilityService userAvailabilityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PointLedgerService pointLedgerService;
+    private final FileDeletionOutbox fileDeletionOutbox;
 
     // 프로필 정보 불러오기
     public ProfileResDto getProfile(Integer userId) {
@@ -52,14 +58,14 @@ public class MypageService {
                 .id(user.getId())
                 .userId(user.getUserId())
                 .name(user.getNickname())
-                .point(user.getPoint())
+                .point(pointLedgerService.getBalance(userId))
                 .profileImg(imageUrlMapper.toPublic(user.getProfileImg()))
                 .build();
     }
 
     // 내가 쓴 판매 게시글 불러오기
     public List<MySellBoardResDto> getMySellBoard(Integer userId) {
-        List<Board> boards = boardRepository.findMyBoardsOrderByStatusAndCreated(userId);
+        List<BoardListRow> boards = boardRepository.findMyBoardsOrderByStatusAndCreated(userId);
 
         return boards.stream()
                 .map(MySellBoardResDto::of) // 1차 생성
@@ -101,9 +107,21 @@ public class MypageService {
         User user = userRepository.findById(meId)
                 .orElseThrow(() -> new RuntimeException("유저 없음"));
 
+        boolean profileChanged = false;
+
         // 닉네임이 비어있지 않다면
         if (nickname != null && !nickname.isBlank()) {
-            user.setNickname(nickname.trim());
+            String newNickname = nickname.trim();
+
+            // 바뀐 경우에만 중복 확인 후 필터 반영
+            if (!newNickname.equals(user.getNickname())) {
+                if (!userAvailabilityService.isNicknameAvailable(newNickname)) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "DUPLICATE_NICKNAME");
+                }
+                user.setNickname(newNickname);
+                userAvailabilityService.registerNickname(newNickname);
+                profileChanged = true;
+            }
         }
 
         // 이미지가 비어있지 않다면
@@ -121,15 +139,17 @@ public class MypageService {
 
             user.setProfileImg(newUrl);
             userRepository.save(user); // URL 먼저 반영
+            profileChanged = true;
 
-            // 기존 파일 정리
-            if (oldUrl != null && !oldUrl.isBlank()) {
-                try { storageService.deleteByUrl(oldUrl); } catch (IOException ignore) {}
-            }
+            // 기존 파일 정리 (커밋 후 삭제)
+            fileDeletionOutbox.enqueue(oldUrl);
         } else {
             // 이미지 없이 닉네임만 바뀌는 경우
             userRepository.save(user);
         }
+
+        // 판매 게시글 상세 캐시 등 판매자 정보 갱신
+        if (profileChanged) eventPublisher.publishEvent(new UserProfileChangedEvent(meId));
     }
 
     // 비밀번호 수정
@@ -144,12 +164,12 @@ public class MypageService {
         }
 
         // 기존 비밀번호 확인
-        if (!passwordEncoder.matches(oldPassword, user.getPassword())) {
+        if (!passwordHashExecutor.matches(oldPassword, user.getPassword())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "INVALID_PASSWORD");
         }
 
         // 새 비밀번호 암호화 후 저장
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashExecutor.encode(newPassword));
         userRepository.save(user);
     }
 }
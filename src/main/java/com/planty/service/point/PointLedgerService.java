@@ -0,0 +1,144 @@
+package com.planty.service.point;
+
+import com.planty.common.StatsSource;
+import com.planty.entity.point.PointLedger;
+import com.planty.entity.point.PointReason;
+import com.planty.entity.point.PointSnapshot;
+import com.planty.repository.point.PointLedgerRepository;
+import com.planty.repository.point.PointSnapshotRepository;
+import com.planty.repository.user.UserRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+
+// 포인트 원장
+// 잔액 변경은 조건부 UPDATE 한 번 + 거래 내역 추가, 잔액 조회는 스냅샷 + 이후 내역 합
+@Slf4j
+@Service
+@Transactional
+public class PointLedgerService implements StatsSource {
+
+    private final UserRepository userRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final PointSnapshotRepository pointSnapshotRepository;
+    private final long compactGraceMillis;
+
+    private volatile LocalDateTime lastCompactionStartedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LongAdder withdrawals = new LongAdder();
+    private final LongAdder insufficient = new LongAdder();
+    private final LongAdder snapshotReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+    private final LongAdder compactedUsers = new LongAdder();
+
+    public PointLedgerService(UserRepository userRepository,
+                              PointLedgerRepository pointLedgerRepository,
+                              PointSnapshotRepository pointSnapshotRepository,
+                              @Value("${point.snapshot.compact-grace-millis:60000}") long compactGraceMillis) {
+        this.userRepository = userRepository;
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.pointSnapshotRepository = pointSnapshotRepository;
+        this.compactGraceMillis = compactGraceMillis;
+    }
+
+    // 포인트 차감 (잔액 부족이면 400 NOT_ENOUGH_POINT)
+    public void withdraw(Integer userId, int amount, PointReason reason, Integer refId) {
+        if (userRepository.withdrawPoint(userId, amount) == 0) {
+            insufficient.increment();
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "NOT_ENOUGH_POINT");
+        }
+        append(userId, -amount, reason, refId);
+        withdrawals.increment();
+    }
+
+    // 포인트 적립
+    public void deposit(Integer userId, int amount, PointReason reason, Integer refId) {
+        if (userRepository.depositPoint(userId, amount) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "NOT_FOUND");
+        }
+        append(userId, amount, reason, refId);
+    }
+
+    private void append(Integer userId, int amount, PointReason reason, Integer refId) {
+        PointLedger entry = new PointLedger();
+        entry.setUser(userRepository.getReferenceById(userId));
+        entry.setAmount(amount);
+        entry.setReason(reason);
+        entry.setRefId(refId);
+        pointLedgerRepository.save(entry);
+    }
+
+    // 잔액 조회 (users 행을 읽지 않음, 스냅샷이 없으면 users.point)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public int getBalance(Integer userId) {
+        Optional<PointSnapshot> snapshot = pointSnapshotRepository.findById(userId);
+        if (snapshot.isPresent()) {
+            snapshotReads.increment();
+            PointSnapshot s = snapshot.get();
+            return s.getBalance() + pointLedgerRepository.sumAmountAfter(userId, s.getLastLedgerId()).intValue();
+        }
+        fallbackReads.increment();
+        return userRepository.findPointById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "NOT_FOUND"));
+    }
+
+    // 스냅샷 압축: 최근 거래가 있던 유저의 잔액/마지막 내역 id 갱신
+    // 한 트랜잭션 안의 읽기는 같은 시점 스냅샷(MVCC)이라 잔액과 내역 id가 어긋나지 않음
+    // 늦게 커밋된 거래도 다시 잡도록 직전 실행 시각보다 grace 만큼 앞에서부터 확인
+    @Scheduled(fixedDelayString = "${point.snapshot.compact-interval-millis:60000}",
+            initialDelayString = "${point.snapshot.compact-interval-millis:60000}")
+    public void compact() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastCompactionStartedAt.minusNanos(compactGraceMillis * 1_000_000L);
+
+        List<Integer> userIds = pointLedgerRepository.findUserIdsSince(since);
+        for (Integer userId : userIds) {
+            Long lastId = pointLedgerRepository.findMaxIdByUserId(userId);
+            Optional<Integer> point = userRepository.findPointById(userId);
+            if (lastId == null || point.isEmpty()) continue;
+
+            PointSnapshot s = pointSnapshotRepository.findById(userId).orElseGet(() -> {
+                PointSnapshot created = new PointSnapshot();
+                created.setUserId(userId);
+                return created;
+            });
+            s.setBalance(point.get());
+            s.setLastLedgerId(lastId);
+            pointSnapshotRepository.save(s);
+        }
+
+        compactedUsers.add(userIds.size());
+        lastCompactionStartedAt = startedAt;
+        if (!userIds.isEmpty()) log.debug("포인트 스냅샷 압축: users={}", userIds.size());
+    }
+
+    @Override
+    public String statsName() {
+        return "point-ledger";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("withdrawals", withdrawals.sum());
+        stats.put("insufficient", insufficient.sum());
+        stats.put("snapshotReads", snapshotReads.sum());
+        stats.put("fallbackReads", fallbackReads.sum());
+        stats.put("compactedUsers", compactedUsers.sum());
+        stats.put("lastCompactionStartedAt", lastCompactionStartedAt.toString());
+        return stats;
+    }
+}
@@ -0,0 +1,179 @@
+package com.planty.service.user;
+
+import com.planty.common.StatsSource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+
+// 로그인 요청 제한 (IP, 아이디별 토큰 버킷) + 아이디/닉네임 가용성 확인 IP별 제한 (로그인 예산과 별도)
+// 키마다 정확한 버킷을 두고, 가득 찰 만큼 쉰 버킷은 주기적으로 정리 (가득 찬 버킷 = 없는 버킷)
+// 키 수는 max-keys 로 제한, 넘치면 새 키는 거부 / 스트라이프는 키별 잠금에만 사용
+@Component
+public class LoginRateLimiter implements StatsSource {
+
+    private final Limits ipLimits;
+    private final Limits userLimits;
+    private final Limits availabilityLimits;
+    private final Object[] locks;
+    private final boolean trustForwardedFor;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public LoginRateLimiter(@Value("${security.login-rate-limit.stripes:1024}") int stripes,
+                            @Value("${security.login-rate-limit.max-keys:100000}") int maxKeys,
+                            @Value("${security.login-rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${security.login-rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                            @Value("${security.login-rate-limit.user.capacity:5}") int userCapacity,
+                            @Value("${security.login-rate-limit.user.refill-per-minute:5}") int userRefillPerMinute,
+                            @Value("${security.login-rate-limit.availability.capacity:60}") int availabilityCapacity,
+                            @Value("${security.login-rate-limit.availability.refill-per-minute:60}") int availabilityRefillPerMinute,
+                            @Value("${security.login-rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        this.ipLimits = new Limits(ipCapacity, ipRefillPerMinute, maxKeys);
+        this.userLimits = new Limits(userCapacity, userRefillPerMinute, maxKeys);
+        this.availabilityLimits = new Limits(availabilityCapacity, availabilityRefillPerMinute, maxKeys);
+        this.locks = new Object[Math.max(1, stripes)];
+        for (int i = 0; i < locks.length; i++) locks[i] = new Object();
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    // IP, 아이디 예산을 모두 통과해야 허용
+    public boolean tryAcquire(HttpServletRequest request, String userId) {
+        long now = System.nanoTime();
+        boolean ok = tryConsume(ipLimits, clientIp(request), now)
+                && (!StringUtils.hasText(userId) || tryConsume(userLimits, userId.trim(), now));
+
+        if (ok) allowed.increment(); else rejected.increment();
+        return ok;
+    }
+
+    // 가용성 확인 IP 예산 (입력 중 반복 호출이라 로그인 예산과 따로)
+    public boolean tryAcquireAvailability(HttpServletRequest request) {
+        boolean ok = tryConsume(availabilityLimits, clientIp(request), System.nanoTime());
+
+        if (ok) allowed.increment(); else rejected.increment();
+        return ok;
+    }
+
+    // 키 버킷에서 토큰 하나 (없으면 가득 찬 버킷으로 시작, 키가 너무 많으면 거부)
+    private boolean tryConsume(Limits limits, String key, long now) {
+        synchronized (lockOf(key)) {
+            Bucket bucket = limits.buckets.get(key);
+            if (bucket == null) {
+                if (limits.buckets.size() >= limits.maxKeys) {
+                    overflowed.increment();
+                    return false;
+                }
+                bucket = new Bucket(limits.capacity, now);
+                limits.buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(limits.capacity, limits.refillPerNano, now);
+        }
+    }
+
+    // 가득 찰 만큼 쉰 버킷 정리
+    @Scheduled(fixedDelayString = "${security.login-rate-limit.sweep-interval-millis:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        sweep(ipLimits, now);
+        sweep(userLimits, now);
+        sweep(availabilityLimits, now);
+    }
+
+    private void sweep(Limits limits, long now) {
+        for (String key : limits.buckets.keySet()) {
+            synchronized (lockOf(key)) {
+                Bucket bucket = limits.buckets.get(key);
+                if (bucket != null && now - bucket.lastNanos >= limits.fullNanos) {
+                    limits.buckets.remove(key);
+                    evicted.increment();
+                }
+            }
+        }
+    }
+
+    // 클라이언트 IP (프록시 신뢰 설정 시 X-Forwarded-For 첫 번째 값)
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String xff = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(xff)) {
+                int comma = xff.indexOf(',');
+                return (comma < 0 ? xff : xff.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private Object lockOf(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return locks[(h & 0x7fffffff) % locks.length];
+    }
+
+    @Override
+    public String statsName() {
+        return "login-rate-limit";
+    }
+
+    // 제한 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("allowed", allowed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("overflowed", overflowed.sum());
+        stats.put("evicted", evicted.sum());
+        stats.put("ipKeys", ipLimits.buckets.size());
+        stats.put("userKeys", userLimits.buckets.size());
+        stats.put("availabilityKeys", availabilityLimits.buckets.size());
+        return stats;
+    }
+
+    // 종류별 (IP, 아이디, 가용성 IP) 설정 + 키별 버킷
+    private static final class Limits {
+        final double capacity;
+        final double refillPerNano;
+        final long fullNanos;       // 빈 버킷이 가득 차는 시간 (이만큼 쉬면 정리)
+        final int maxKeys;
+        final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+        Limits(int capacity, int refillPerMinute, int maxKeys) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.fullNanos = refillPerMinute <= 0 ? Long.MAX_VALUE : (long) Math.ceil(capacity / refillPerNano);
+            this.maxKeys = Math.max(1, maxKeys);
+        }
+    }
+
+    // 토큰 버킷 (마지막 요청 시각 기준으로 충전, 키 잠금 안에서만 사용)
+    private static final class Bucket {
+        private double tokens;
+        private long lastNanos;
+
+        Bucket(double capacity, long now) {
+            this.tokens = capacity;
+            this.lastNanos = now;
+        }
+
+        boolean tryConsume(double capacity, double refillPerNano, long now) {
+            tokens = Math.min(capacity, tokens + (now - lastNanos) * refillPerNano);
+            lastNanos = now;
+
+            if (tokens < 1.0) return false;
+            tokens -= 1.0;
+            return true;
+        }
+    }
+}
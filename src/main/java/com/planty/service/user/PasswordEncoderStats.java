@@ -0,0 +1,32 @@
+package com.planty.service.user;
+
+import com.planty.common.StatsSource;
+import com.planty.config.BCryptCalibration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+// BCrypt 강도 보정 결과 및 재해시 횟수 지표
+@Component
+@RequiredArgsConstructor
+public class PasswordEncoderStats implements StatsSource {
+
+    private final BCryptCalibration bcryptCalibration;
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    @Override
+    public String statsName() {
+        return "password-encoder";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("calibration", bcryptCalibration.toMap());
+        stats.put("rehashed", passwordHashExecutor.getStats().get("rehashed"));
+        return stats;
+    }
+}
@@ -0,0 +1,139 @@
+package com.planty.service.user;
+
+import com.planty.common.BloomFilter;
+import com.planty.common.StatsSource;
+import com.planty.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+
+// 아이디/닉네임 사용 가능 여부 (블룸 필터 → "있을 수도 있음"일 때만 DB 확인)
+// 최종 중복 판단은 DB 유니크 제약이 담당
+@Slf4j
+@Service
+public class UserAvailabilityService implements StatsSource {
+
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter userIdFilter;
+    private volatile BloomFilter nicknameFilter;
+    private volatile boolean ready = false;   // 로딩 전에는 항상 DB 확인
+
+    // 적재 중 들어온 등록 (적재 시작 ~ 새 필터 교체 사이 등록이 버려질 필터에만 들어가지 않도록)
+    private final Object registerLock = new Object();
+    private List<String> userIdsDuringLoad = null;      // registerLock, 적재 중이 아니면 null
+    private List<String> nicknamesDuringLoad = null;    // registerLock
+
+    private final LongAdder filterNegatives = new LongAdder();  // 필터만으로 판정
+    private final LongAdder dbChecks = new LongAdder();         // DB 확인
+
+    public UserAvailabilityService(UserRepository userRepository,
+                                   @Value("${users.availability.expected-insertions:100000}") long expectedInsertions,
+                                   @Value("${users.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.userIdFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.nicknameFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    // 시작 시 기존 아이디/닉네임 적재
+    // DB 조회 전부터 등록을 따로 모아 두고, 새 필터에 더한 뒤 교체 (교체와 등록은 같은 잠금)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (registerLock) {
+            userIdsDuringLoad = new ArrayList<>();
+            nicknamesDuringLoad = new ArrayList<>();
+        }
+        try {
+            List<String> userIds = userRepository.findAllUserIds();
+            List<String> nicknames = userRepository.findAllNicknames();
+
+            // 실제 데이터가 예상보다 많으면 여유 있게 확장
+            long size = Math.max(expectedInsertions, Math.max(userIds.size(), nicknames.size()) * 2L);
+            BloomFilter ids = new BloomFilter(size, falsePositiveRate);
+            BloomFilter names = new BloomFilter(size, falsePositiveRate);
+            userIds.forEach(ids::put);
+            nicknames.forEach(names::put);
+
+            synchronized (registerLock) {
+                userIdsDuringLoad.forEach(ids::put);
+                nicknamesDuringLoad.forEach(names::put);
+                this.userIdFilter = ids;
+                this.nicknameFilter = names;
+                this.ready = true;
+            }
+            log.info("아이디/닉네임 필터 적재 완료: userIds={}, nicknames={}", userIds.size(), nicknames.size());
+        } finally {
+            synchronized (registerLock) {
+                userIdsDuringLoad = null;
+                nicknamesDuringLoad = null;
+            }
+        }
+    }
+
+    // 아이디 사용 가능 여부
+    public boolean isUserIdAvailable(String userId) {
+        if (ready && !userIdFilter.mightContain(userId)) {
+            filterNegatives.increment();
+            return true;
+        }
+        dbChecks.increment();
+        return !userRepository.existsByUserId(userId);
+    }
+
+    // 닉네임 사용 가능 여부
+    public boolean isNicknameAvailable(String nickname) {
+        if (ready && !nicknameFilter.mightContain(nickname)) {
+            filterNegatives.increment();
+            return true;
+        }
+        dbChecks.increment();
+        return !userRepository.existsByNickname(nickname);
+    }
+
+    // 가입/닉네임 변경 반영 (롤백되어도 오탐만 늘어날 뿐 안전, 적재 중이면 새 필터에도 들어가도록 기록)
+    public void registerUserId(String userId) {
+        synchronized (registerLock) {
+            userIdFilter.put(userId);
+            if (userIdsDuringLoad != null) userIdsDuringLoad.add(userId);
+        }
+    }
+
+    public void registerNickname(String nickname) {
+        synchronized (registerLock) {
+            nicknameFilter.put(nickname);
+            if (nicknamesDuringLoad != null) nicknamesDuringLoad.add(nickname);
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "user-availability";
+    }
+
+    // 필터 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("userIdInsertions", userIdFilter.getInsertions());
+        stats.put("nicknameInsertions", nicknameFilter.getInsertions());
+        stats.put("bitsPerFilter", userIdFilter.getNumBits());
+        stats.put("hashes", userIdFilter.getNumHashes());
+        stats.put("filterNegatives", filterNegatives.sum());
+        stats.put("dbChecks", dbChecks.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,12 @@
+package com.planty.service.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+// 닉네임/프로필 이미지 변경 이벤트 (커밋 후 캐시 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class UserProfileChangedEvent {
+    private final Integer userId;
+}
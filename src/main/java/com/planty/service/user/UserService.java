@@ -26,24 +26,30 @@ import static org.springframework.http.HttpStatus.CONFLICT;
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserAvailabilityService userAvailabilityService;
 
     // 회원가입
     public User saveUser(User user) {
         validateDuplicateId(user);
         validateDuplicateNickname(user);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        // 가용성 필터 반영
+        userAvailabilityService.registerUserId(saved.getUserId());
+        userAvailabilityService.registerNickname(saved.getNickname());
+        return saved;
     }
 
-    // userId 중복 확인
+    // userId 중복 확인 (필터에 없으면 DB 조회 생략)
     private void validateDuplicateId(User user) {
-        if (userRepository.existsByUserId(user.getUserId())) {
+        if (!userAvailabilityService.isUserIdAvailable(user.getUserId())) {
             throw new ResponseStatusException(CONFLICT, "DUPLICATE_USER_ID");
         }
     }
 
-    // 닉네임 중복 확인
+    // 닉네임 중복 확인 (필터에 없으면 DB 조회 생략)
     private void validateDuplicateNickname(User user) {
-        if (userRepository.existsByNickname(user.getNickname())) {
+        if (!userAvailabilityService.isNicknameAvailable(user.getNickname())) {
             throw new ResponseStatusException(CONFLICT, "DUPLICATE_NICKNAME");
         }
     }
@@ -62,6 +68,11 @@ public class UserService implements UserDetailsService {
         );
     }
 
+    // 비밀번호 해시 교체 (강도 상향 재해시)
+    public void updatePasswordHash(Integer id, String encodedPassword) {
+        userRepository.updatePassword(id, encodedPassword);
+    }
+
     // 문자 ID를 pk로 변환
     @Transactional(Transactional.TxType.SUPPORTS)
     public Integer getPkByUserId(String userId) {
@@ -0,0 +1,188 @@
+package com.planty.storage;
+
+import com.planty.common.StatsSource;
+import com.planty.entity.storage.FileDeletion;
+import com.planty.repository.storage.FileDeletionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+
+// 파일 삭제 아웃박스
+// 삭제 요청은 호출한 트랜잭션 안에서 테이블에 기록 → 커밋되면 워커가 묶어서 삭제, 실패 시 지수 백오프로 재시도
+// 롤백되면 기록도 사라지므로 파일은 그대로 남음
+@Slf4j
+@Service
+public class FileDeletionOutbox implements StatsSource {
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final StorageService storageService;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    // 워커는 한 스레드, 중복 예약은 하나로 합침
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "file-deletion");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+
+    public FileDeletionOutbox(FileDeletionRepository fileDeletionRepository,
+                              StorageService storageService,
+                              @Value("${storage.deletion.batch-size:50}") int batchSize,
+                              @Value("${storage.deletion.max-attempts:8}") int maxAttempts) {
+        this.fileDeletionRepository = fileDeletionRepository;
+        this.storageService = storageService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    // 삭제 요청 기록 (호출 측 트랜잭션에 참여)
+    public void enqueue(String target) {
+        if (target == null || target.isBlank()) return;
+
+        FileDeletion f = new FileDeletion();
+        f.setTarget(target);
+        f.setNextAttemptAt(LocalDateTime.now());
+        fileDeletionRepository.save(f);
+        enqueued.increment();
+
+        // 커밋 후 바로 처리 (트랜잭션 밖이면 즉시)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleDrain();
+                }
+            });
+        } else {
+            scheduleDrain();
+        }
+    }
+
+    // 재시도 대상 / 재시작 전에 남은 항목 주기적으로 처리
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${storage.deletion.poll-interval-millis:30000}",
+            initialDelayString = "${storage.deletion.poll-interval-millis:30000}")
+    public void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            worker.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        try {
+            List<FileDeletion> batch;
+            do {
+                batch = fileDeletionRepository.findDue(LocalDateTime.now(), PageRequest.of(0, batchSize));
+                processBatch(batch);
+            } while (batch.size() == batchSize);
+        } catch (Exception e) {
+            log.warn("파일 삭제 대기열 처리 실패", e);
+        }
+    }
+
+    private void processBatch(List<FileDeletion> batch) {
+        if (batch.isEmpty()) return;
+
+        List<Long> done = new ArrayList<>();
+        List<FileDeletion> retry = new ArrayList<>();
+        for (FileDeletion f : batch) {
+            try {
+                delete(f.getTarget());
+                done.add(f.getId());
+            } catch (Exception e) {
+                failures.increment();
+                int attempts = f.getAttempts() + 1;
+                f.setAttempts(attempts);
+                f.setLastError(truncate(e.toString()));
+                if (attempts >= maxAttempts) {
+                    // 재시도 중단 (행은 남겨서 확인 가능하게)
+                    f.setNextAttemptAt(null);
+                    abandoned.increment();
+                    log.error("파일 삭제 재시도 중단: {} ({}회)", f.getTarget(), attempts, e);
+                } else {
+                    f.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds(attempts)));
+                }
+                retry.add(f);
+            }
+        }
+
+        if (!done.isEmpty()) {
+            fileDeletionRepository.deleteAllByIdInBatch(done);
+            deleted.add(done.size());
+        }
+        if (!retry.isEmpty()) {
+            fileDeletionRepository.saveAll(retry);
+        }
+    }
+
+    // 업로드 URL 은 저장소 규칙대로, 그 외(작물 이미지 등)는 절대 경로로 삭제
+    private void delete(String target) throws Exception {
+        if (target.startsWith("/uploads/")) {
+            storageService.deleteByUrl(target);
+        } else {
+            Files.deleteIfExists(Path.of(target));
+        }
+    }
+
+    // 10초, 20초, 40초 ... 최대 1시간
+    private static long backoffSeconds(int attempts) {
+        return Math.min(3600L, 10L << Math.min(attempts - 1, 20));
+    }
+
+    private static String truncate(String s) {
+        return s.length() > 500 ? s.substring(0, 500) : s;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    @Override
+    public String statsName() {
+        return "file-deletion";
+    }
+
+    // 지표
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enqueued", enqueued.sum());
+        stats.put("deleted", deleted.sum());
+        stats.put("failures", failures.sum());
+        stats.put("abandoned", abandoned.sum());
+        long total = fileDeletionRepository.count();
+        long abandonedTotal = fileDeletionRepository.countAbandoned();
+        stats.put("pending", total - abandonedTotal);
+        stats.put("abandonedTotal", abandonedTotal);
+        return stats;
+    }
+}
@@ -1,31 +1,60 @@
 package com.planty.storage;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 // 로컬 저장 서비스
+@Slf4j
 @Service
 public class LocalStorageService implements StorageService {
 
-    @Value("${upload-dir}")
-    private String uploadDir;
+    private final String uploadDir;
+
+    // 여러 장 업로드용 디스크 I/O 스레드 (가득 차면 요청 스레드가 직접 처리)
+    private final ThreadPoolExecutor ioExecutor;
+
+    public LocalStorageService(@Value("${upload-dir}") String uploadDir,
+                               @Value("${storage.io.threads:4}") int ioThreads,
+                               @Value("${storage.io.queue-capacity:64}") int queueCapacity) {
+        this.uploadDir = uploadDir;
+        AtomicInteger seq = new AtomicInteger();
+        this.ioExecutor = new ThreadPoolExecutor(
+                ioThreads, ioThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "storage-io-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 
     @Override
     public String save(MultipartFile file, String folder) throws IOException {
         // 원본 파일명에서 확장자 추출 (없으면 빈 문자열)
-        String ext = Optional.ofNullable(file.getOriginalFilename())
-                .filter(n -> n.contains("."))
-                .map(n -> n.substring(n.lastIndexOf(".")))
-                .orElse("");
+        String ext = extensionOf(file);
 
         // 저장 경로 생성 (중간 폴더까지)
         Path dir = Path.of(uploadDir, folder);
@@ -42,6 +71,65 @@ public class LocalStorageService implements StorageService {
         return "/uploads/" + folder + "/" + name;
     }
 
+    // 여러 파일 병렬 저장 → 모두 끝나면 한 번에 디스크 동기화
+    // 하나라도 실패하면 이번 묶음에서 만든 파일 전부 삭제
+    @Override
+    public List<String> saveAll(List<MultipartFile> files, String folder) throws IOException {
+        List<MultipartFile> targets = new ArrayList<>();
+        if (files != null) {
+            for (MultipartFile f : files) {
+                if (f != null && !f.isEmpty()) targets.add(f);
+            }
+        }
+        if (targets.isEmpty()) return new ArrayList<>();
+
+        Path dir = Path.of(uploadDir, folder);
+        Files.createDirectories(dir);
+
+        // 파일명은 미리 정해 두고 (입력 순서 유지) 쓰기만 병렬로
+        List<Path> paths = new ArrayList<>(targets.size());
+        for (MultipartFile f : targets) {
+            paths.add(dir.resolve(UUID.randomUUID() + extensionOf(f)));
+        }
+
+        List<Future<?>> writes = new ArrayList<>(targets.size());
+        try {
+            for (int i = 0; i < targets.size(); i++) {
+                MultipartFile f = targets.get(i);
+                Path p = paths.get(i);
+                writes.add(ioExecutor.submit(() -> {
+                    write(f, p);
+                    return null;
+                }));
+            }
+            awaitAll(writes);
+
+            // 묶음 단위 동기화: 파일 내용 + 디렉토리 항목
+            List<Future<?>> syncs = new ArrayList<>(paths.size());
+            for (Path p : paths) {
+                syncs.add(ioExecutor.submit(() -> {
+                    force(p);
+                    return null;
+                }));
+            }
+            awaitAll(syncs);
+            forceDirectory(dir);
+        } catch (IOException | RuntimeException e) {
+            // 아직 쓰는 중인 파일이 있으면 끝날 때까지 기다린 뒤 정리
+            for (Future<?> w : writes) {
+                try { w.get(); } catch (Exception ignore) {}
+            }
+            for (Path p : paths) {
+                try { Files.deleteIfExists(p); } catch (IOException ignore) {}
+            }
+            throw e;
+        }
+
+        List<String> urls = new ArrayList<>(paths.size());
+        for (Path p : paths) urls.add("/uploads/" + folder + "/" + p.getFileName());
+        return urls;
+    }
+
     @Override
     public void deleteByUrl(String url) throws IOException {
         // 업로드 URL(/uploads/...)을 실제 파일 경로로 변환 후 삭제
@@ -49,5 +137,52 @@ public class LocalStorageService implements StorageService {
         Files.deleteIfExists(p);
     }
 
-}
+    private static String extensionOf(MultipartFile file) {
+        return Optional.ofNullable(file.getOriginalFilename())
+                .filter(n -> n.contains("."))
+                .map(n -> n.substring(n.lastIndexOf(".")))
+                .orElse("");
+    }
+
+    private static void write(MultipartFile file, Path target) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, target);
+        }
+    }
 
+    private static void force(Path p) throws IOException {
+        try (FileChannel ch = FileChannel.open(p, StandardOpenOption.WRITE)) {
+            ch.force(true);
+        }
+    }
+
+    // 디렉토리 동기화 (지원하지 않는 OS/파일시스템이면 무시)
+    private static void forceDirectory(Path dir) {
+        try (FileChannel ch = FileChannel.open(dir, StandardOpenOption.READ)) {
+            ch.force(true);
+        } catch (IOException e) {
+            log.debug("디렉토리 동기화 생략: {}", dir);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws IOException {
+        for (Future<?> f : futures) {
+            try {
+                f.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException io) throw io;
+                if (cause instanceof RuntimeException re) throw re;
+                throw new IOException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("파일 저장 중단", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+    }
+}
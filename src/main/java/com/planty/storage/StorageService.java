@@ -2,11 +2,30 @@ package com.planty.storage;
 
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 
 // 이미지 저장 및 삭제 서비스
 public interface StorageService {
     String save(MultipartFile file, String folder) throws IOException;
     void deleteByUrl(String url) throws IOException;
-}
 
+    // 여러 파일 한 번에 저장 (빈 파일 제외, 입력 순서대로 URL 반환)
+    // 하나라도 실패하면 이번에 저장한 파일은 모두 지우고 예외
+    default List<String> saveAll(List<MultipartFile> files, String folder) throws IOException {
+        List<String> urls = new ArrayList<>();
+        if (files == null) return urls;
+        try {
+            for (MultipartFile f : files) {
+                if (f != null && !f.isEmpty()) urls.add(save(f, folder));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (String url : urls) {
+                try { deleteByUrl(url); } catch (IOException ignore) {}
+            }
+            throw e;
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,52 @@
+package com.planty.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 블룸 필터: 추가한 값은 항상 있음, 오탐률은 설정값 근처, 크기 계산
+class BloomFilterTest {
+
+    @Test
+    void addedValuesAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put("user" + i);
+        filter.put("농부김씨");
+
+        for (int i = 0; i < 10_000; i++) assertTrue(filter.mightContain("user" + i));
+        assertTrue(filter.mightContain("농부김씨"));
+        assertEquals(10_001, filter.getInsertions());
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put("user" + i);
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("other" + i)) falsePositives++;
+        }
+        // 목표 1%, 해시 편차 감안해 2배까지 허용
+        assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void emptyFilterAndNullValues() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        assertFalse(filter.mightContain("anyone"));
+
+        filter.put(null);
+        assertFalse(filter.mightContain(null));
+        assertEquals(0, filter.getInsertions());
+    }
+
+    @Test
+    void sizedFromExpectedInsertionsAndRate() {
+        // m = -n·ln(p)/(ln2)^2 ≈ 9.59n, k ≈ 7 (p = 1%)
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        assertEquals(9586, filter.getNumBits());
+        assertEquals(7, filter.getNumHashes());
+    }
+}
@@ -0,0 +1,95 @@
+package com.planty.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 분위수 스케치: 상대 오차 보장, 삭제/병합이 정확함
+class QuantileSketchTest {
+
+    private static final double ALPHA = 0.01;
+
+    @Test
+    void quantilesStayWithinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(ALPHA);
+        Random random = new Random(42);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + random.nextInt(200_000);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.0, 0.1, 0.5, 0.9, 1.0}) {
+            long exact = values[(int) Math.floor(q * (values.length - 1))];
+            double estimate = sketch.quantile(q);
+            assertTrue(Math.abs(estimate - exact) <= ALPHA * exact,
+                    "q=" + q + " exact=" + exact + " estimate=" + estimate);
+        }
+        assertEquals(10_000, sketch.getCount());
+        assertEquals(Arrays.stream(values).average().orElseThrow(), sketch.getMean(), 1e-6);
+    }
+
+    @Test
+    void removeRestoresPreviousState() {
+        QuantileSketch sketch = new QuantileSketch(ALPHA);
+        sketch.add(10_000);
+        sketch.add(20_000);
+        int bins = sketch.getBinCount();
+        Double median = sketch.quantile(0.5);
+
+        sketch.add(50_000);
+        sketch.add(0);
+        sketch.remove(50_000);
+        sketch.remove(0);
+
+        assertEquals(2, sketch.getCount());
+        assertEquals(bins, sketch.getBinCount());
+        assertEquals(median, sketch.quantile(0.5));
+        assertEquals(15_000.0, sketch.getMean());
+    }
+
+    @Test
+    void emptySketchHasNoQuantiles() {
+        QuantileSketch sketch = new QuantileSketch(ALPHA);
+        assertNull(sketch.quantile(0.5));
+        assertEquals(0.0, sketch.getMean());
+
+        sketch.add(3_000);
+        sketch.remove(3_000);
+        assertNull(sketch.quantile(0.5));
+        assertEquals(0, sketch.getBinCount());
+    }
+
+    @Test
+    void zeroPricesCountBelowPositiveValues() {
+        QuantileSketch sketch = new QuantileSketch(ALPHA);
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(5_000);
+
+        assertEquals(0.0, sketch.quantile(0.5));
+        assertEquals(5_000, sketch.quantile(1.0), ALPHA * 5_000);
+    }
+
+    @Test
+    void mergeEqualsAddingAll() {
+        QuantileSketch a = new QuantileSketch(ALPHA);
+        QuantileSketch b = new QuantileSketch(ALPHA);
+        QuantileSketch all = new QuantileSketch(ALPHA);
+        for (long v = 100; v <= 100_000; v += 997) {
+            ((v / 997) % 2 == 0 ? a : b).add(v);
+            all.add(v);
+        }
+        a.merge(b);
+
+        assertEquals(all.getCount(), a.getCount());
+        assertEquals(all.getBinCount(), a.getBinCount());
+        for (double q : new double[]{0.1, 0.5, 0.9}) assertEquals(all.quantile(q), a.quantile(q));
+
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new QuantileSketch(0.05)));
+    }
+}
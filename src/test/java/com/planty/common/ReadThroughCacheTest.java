@@ -0,0 +1,106 @@
+package com.planty.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 읽기 통과 캐시: 로딩 실패는 캐시하지 않음, 로딩 중 무효화된 값은 남지 않음, 기다리는 시간 제한
+class ReadThroughCacheTest {
+
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void failedLoadIsNotCachedAndIsRetried() {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("test", 10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> cache.get("k", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("db down");
+        }));
+        assertEquals("v", cache.get("k", () -> {
+            loads.incrementAndGet();
+            return "v";
+        }));
+        assertEquals(2, loads.get());
+        assertEquals(1L, cache.getStats().get("loadFailures"));
+    }
+
+    @Test
+    void errorInLoaderReleasesWaiters() throws Exception {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("test", 10, 60_000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<?> loader = pool.submit(() -> cache.get("k", () -> {
+            loading.countDown();
+            await(release);
+            throw new OutOfMemoryError("simulated");
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<String> waiter = pool.submit(() -> cache.get("k", () -> "unused"));
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(OutOfMemoryError.class, e.getCause());
+        assertThrows(ExecutionException.class, () -> loader.get(5, TimeUnit.SECONDS));
+        assertEquals("fresh", cache.get("k", () -> "fresh"));
+    }
+
+    @Test
+    void invalidationDuringLoadDropsLoadedValue() throws Exception {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("test", 10, 60_000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> stale = pool.submit(() -> cache.get("k", () -> {
+            loading.countDown();
+            await(release);
+            return "stale";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // 로딩 중이라 값은 모르지만 무효화 대상
+        cache.invalidateIf((k, v) -> false);
+        release.countDown();
+        assertEquals("stale", stale.get(5, TimeUnit.SECONDS));
+
+        assertEquals("fresh", cache.get("k", () -> "fresh"));
+    }
+
+    @Test
+    void waiterGivesUpAfterLoadTimeout() throws Exception {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("test", 10, 60_000, 50);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        pool.submit(() -> cache.get("k", () -> {
+            loading.countDown();
+            await(release);
+            return "slow";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> cache.get("k", () -> "unused"));
+        assertEquals("LOAD_TIMEOUT", e.getReason());
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
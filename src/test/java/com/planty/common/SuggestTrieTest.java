@@ -0,0 +1,85 @@
+package com.planty.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 자동완성 트라이: 접두어별 빈도순 상위 K, 증분 반영이 전체 재구성과 같은 결과
+class SuggestTrieTest {
+
+    private static List<String> terms(List<SuggestTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestTrie.Suggestion::term).toList();
+    }
+
+    private static SuggestTrie sample() {
+        SuggestTrie trie = new SuggestTrie(3);
+        trie.put("토마토", "토마토", 5);
+        trie.put("토마토즙", "토마토즙", 2);
+        trie.put("토란", "토란", 3);
+        trie.put("토끼풀", "토끼풀", 1);
+        trie.put("상추", "상추", 4);
+        trie.computeTopK();
+        return trie;
+    }
+
+    @Test
+    void suggestsByCountWithinPrefix() {
+        SuggestTrie trie = sample();
+
+        assertEquals(List.of("토마토", "토란", "토마토즙"), terms(trie.suggest("토", 10)));
+        assertEquals(List.of("토마토", "토마토즙"), terms(trie.suggest("토마", 10)));
+        assertEquals(List.of("토마토"), terms(trie.suggest("토", 1)));
+        assertEquals(List.of(), trie.suggest("배", 10));
+        assertEquals(List.of(), trie.suggest("", 10));
+        assertEquals(5, trie.size());
+    }
+
+    @Test
+    void tiesAreOrderedByTerm() {
+        SuggestTrie trie = new SuggestTrie(5);
+        trie.put("ab", "ab", 1);
+        trie.put("aa", "aa", 1);
+        trie.put("ac", "ac", 2);
+        trie.computeTopK();
+
+        assertEquals(List.of("ac", "aa", "ab"), terms(trie.suggest("a", 5)));
+    }
+
+    @Test
+    void incrementalAdjustMatchesRebuild() {
+        SuggestTrie adjusted = sample();
+        adjusted.adjust("토끼풀", "토끼풀", 5);
+        adjusted.adjust("토마토즙", "토마토즙", 1);
+        adjusted.adjust("토종닭", "토종닭", 4);
+
+        SuggestTrie rebuilt = new SuggestTrie(3);
+        rebuilt.put("토마토", "토마토", 5);
+        rebuilt.put("토마토즙", "토마토즙", 3);
+        rebuilt.put("토란", "토란", 3);
+        rebuilt.put("토끼풀", "토끼풀", 6);
+        rebuilt.put("토종닭", "토종닭", 4);
+        rebuilt.put("상추", "상추", 4);
+        rebuilt.computeTopK();
+
+        for (String prefix : List.of("토", "토마", "토끼", "토종", "상")) {
+            assertEquals(rebuilt.suggest(prefix, 3), adjusted.suggest(prefix, 3), prefix);
+        }
+        assertEquals(rebuilt.size(), adjusted.size());
+    }
+
+    @Test
+    void decrementToZeroRemovesTerm() {
+        SuggestTrie trie = sample();
+        trie.adjust("토란", null, -3);
+
+        assertEquals(List.of("토마토", "토마토즙"), terms(trie.suggest("토", 10)));
+        assertEquals(List.of(), trie.suggest("토란", 10));
+        assertEquals(4, trie.size());
+
+        // 없는 단어 감소는 무시
+        trie.adjust("배추", null, -1);
+        assertEquals(4, trie.size());
+    }
+}
@@ -0,0 +1,160 @@
+package com.planty.repository.board;
+
+import com.planty.dto.board.BoardListRow;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 판매 게시글 피드 벤치마크 (./gradlew benchmark 로 실행)
+// 10k / 100k 게시글에서 첫 페이지와 깊은 페이지(커서) 조회 시간 비교
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:feedbench;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=false",
+    "logging.level.org.hibernate=WARN",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+    "logging.level.org.hibernate.orm.jdbc.extract=WARN",
+    "logging.level.org.hibernate.type=WARN"
+})
+class BoardFeedBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ROUNDS = 50;
+    private static final double MAX_RATIO = 5.0;    // 커서 조회는 위치/게시글 수와 무관해야 함 (OFFSET 이면 수십 배)
+    private static final double NOISE_MS = 2.0;     // 1ms 미만 측정 흔들림 허용
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private int inserted = 0;
+
+    @Test
+    void feedLatencyStaysFlat() throws SQLException {
+        insertBoards(10_000);
+        Result small = measure();
+
+        insertBoards(100_000);
+        Result large = measure();
+
+        // 깊은 페이지도 첫 페이지와 비슷하게
+        assertFlat("10k deep vs first", small.firstMs, small.deepMs);
+        assertFlat("100k deep vs first", large.firstMs, large.deepMs);
+        // 게시글이 10배여도 깊은 페이지 시간은 비슷하게
+        assertFlat("deep 100k vs 10k", small.deepMs, large.deepMs);
+    }
+
+    private static void assertFlat(String what, double baseMs, double actualMs) {
+        double limitMs = Math.max(MAX_RATIO * baseMs, baseMs + NOISE_MS);
+        assertTrue(actualMs <= limitMs,
+                String.format("%s: %.3fms > %.3fms (base %.3fms)", what, actualMs, limitMs, baseMs));
+    }
+
+    // 첫 페이지, 중간 지점 커서 이후 페이지 평균 시간
+    private Result measure() {
+        PageRequest page = PageRequest.of(0, PAGE_SIZE + 1);
+
+        // 워밍업
+        for (int i = 0; i < 5; i++) boardRepository.findFeedFirstPage(page);
+
+        long start = System.nanoTime();
+        List<BoardListRow> first = null;
+        for (int i = 0; i < ROUNDS; i++) first = boardRepository.findFeedFirstPage(page);
+        double firstMs = (System.nanoTime() - start) / 1e6 / ROUNDS;
+        assertEquals(PAGE_SIZE + 1, first.size());
+
+        // 중간 지점 커서
+        LocalDateTime middle = base().plusSeconds(inserted / 2);
+        start = System.nanoTime();
+        List<BoardListRow> deep = null;
+        for (int i = 0; i < ROUNDS; i++) deep = boardRepository.findFeedAfter(middle, Integer.MAX_VALUE, page);
+        double deepMs = (System.nanoTime() - start) / 1e6 / ROUNDS;
+        assertEquals(PAGE_SIZE + 1, deep.size());
+
+        return new Result(firstMs, deepMs);
+    }
+
+    // 유저 1명 + 게시글마다 작물 1개(1:1) + 썸네일 1개
+    private void insertBoards(int total) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+
+            if (inserted == 0) {
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "insert into users (id, user_id, password, nickname, point) values (1, 'bench', 'x', 'bench', 0)")) {
+                    ps.executeUpdate();
+                }
+            }
+
+            try (PreparedStatement crop = conn.prepareStatement(
+                        "insert into crop (id, user_id, name, analysis_status, is_registered, harvest) values (?, 1, 'crop', 'COMPLETED', true, true)");
+                 PreparedStatement board = conn.prepareStatement(
+                        "insert into board (id, crop_id, seller_id, title, content, price, sell, thumbnail_img, created_at, modified_at) values (?, ?, 1, ?, 'content', ?, false, ?, ?, ?)");
+                 PreparedStatement image = conn.prepareStatement(
+                        "insert into board_image (board_id, board_img, thumbnail) values (?, ?, true)")) {
+
+                for (int id = inserted + 1; id <= total; id++) {
+                    Timestamp ts = Timestamp.valueOf(base().plusSeconds(id));
+
+                    crop.setInt(1, id);
+                    crop.addBatch();
+
+                    board.setInt(1, id);
+                    board.setInt(2, id);
+                    board.setString(3, "title " + id);
+                    board.setInt(4, id % 50_000);
+                    board.setString(5, "/uploads/board/" + id + ".jpg");
+                    board.setTimestamp(6, ts);
+                    board.setTimestamp(7, ts);
+                    board.addBatch();
+
+                    image.setInt(1, id);
+                    image.setString(2, "/uploads/board/" + id + ".jpg");
+                    image.addBatch();
+
+                    if (id % 1000 == 0) {
+                        crop.executeBatch();
+                        board.executeBatch();
+                        image.executeBatch();
+                    }
+                }
+                crop.executeBatch();
+                board.executeBatch();
+                image.executeBatch();
+            }
+            conn.commit();
+        }
+        inserted = total;
+    }
+
+    private static LocalDateTime base() {
+        return LocalDateTime.of(2024, 1, 1, 0, 0);
+    }
+
+    private record Result(double firstMs, double deepMs) {}
+}
@@ -0,0 +1,143 @@
+package com.planty.service.board;
+
+import com.planty.dto.board.BoardListRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 필터 인덱스: 게시글 변경을 하나씩 반영한 결과가 같은 게시글로 전체 재구성한 결과와 같음
+class BoardFacetIndexTest {
+
+    private static final int[] BUCKETS = {0, 5_000, 10_000, 30_000};
+    private static final List<String> CATEGORIES = List.of("토마토", "상추", "고추", "감자", "딸기");
+
+    private static final List<BoardFacetIndex.Filter> FILTERS = List.of(
+            new BoardFacetIndex.Filter(null, null, null, List.of()),
+            new BoardFacetIndex.Filter(null, null, false, List.of()),
+            new BoardFacetIndex.Filter(5_000, 20_000, null, List.of()),
+            new BoardFacetIndex.Filter(null, null, false, List.of("토마토", "상추")),
+            new BoardFacetIndex.Filter(1_000, null, true, List.of("고추")),
+            new BoardFacetIndex.Filter(null, 10_000, null, List.of("없는카테고리")));
+
+    static BoardSnapshot board(int id, Integer price, boolean sold, List<String> categories) {
+        BoardListRow row = new BoardListRow(id, "title " + id, price, sold,
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id), null);
+        return new BoardSnapshot(id, row, null, categories);
+    }
+
+    static BoardSnapshot deleted(int id) {
+        return new BoardSnapshot(id, null, null, List.of());
+    }
+
+    // 등록/수정/판매완료/삭제를 섞은 변경 목록
+    static List<BoardSnapshot> randomChanges(long seed, int boards, int changes) {
+        Random random = new Random(seed);
+        List<BoardSnapshot> list = new ArrayList<>(changes);
+        for (int i = 0; i < changes; i++) {
+            int id = 1 + random.nextInt(boards);
+            if (random.nextInt(100) < 15) {
+                list.add(deleted(id));
+                continue;
+            }
+            Set<String> categories = new LinkedHashSet<>();
+            int n = random.nextInt(4);
+            for (int c = 0; c < n; c++) categories.add(CATEGORIES.get(random.nextInt(CATEGORIES.size())));
+            Integer price = random.nextInt(10) == 0 ? null : random.nextInt(40) * 1_000;
+            list.add(board(id, price, random.nextBoolean(), List.copyOf(categories)));
+        }
+        return list;
+    }
+
+    // 변경 목록을 적용한 뒤 남은 게시글 (id 순)
+    static List<BoardSnapshot> finalState(List<BoardSnapshot> changes) {
+        Map<Integer, BoardSnapshot> current = new TreeMap<>();
+        for (BoardSnapshot b : changes) {
+            if (b.exists()) current.put(b.boardId(), b);
+            else current.remove(b.boardId());
+        }
+        return new ArrayList<>(current.values());
+    }
+
+    private static List<Integer> ids(List<BoardListRow> rows) {
+        return rows.stream().map(BoardListRow::getId).toList();
+    }
+
+    private static Map<Integer, Integer> overlaps(List<BoardFacetIndex.Candidate> candidates) {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (BoardFacetIndex.Candidate c : candidates) map.put(c.row().getId(), c.overlap());
+        return map;
+    }
+
+    @Test
+    void patchedIndexMatchesRebuild() {
+        List<BoardSnapshot> changes = randomChanges(7, 40, 400);
+
+        BoardFacetIndex patched = new BoardFacetIndex(BUCKETS);
+        patched.rebuild(List.of());
+        changes.forEach(patched::apply);
+
+        BoardFacetIndex rebuilt = new BoardFacetIndex(BUCKETS);
+        rebuilt.rebuild(finalState(changes));
+
+        for (BoardFacetIndex.Filter f : FILTERS) {
+            BoardFacetIndex.Result expected = rebuilt.filter(f, 0, 100);
+            BoardFacetIndex.Result actual = patched.filter(f, 0, 100);
+            assertEquals(ids(expected.rows()), ids(actual.rows()), f.toString());
+            assertEquals(expected.total(), actual.total(), f.toString());
+            assertEquals(expected.categoryCounts(), actual.categoryCounts(), f.toString());
+            assertEquals(expected.priceBuckets(), actual.priceBuckets(), f.toString());
+        }
+        assertEquals(overlaps(rebuilt.candidates(CATEGORIES)), overlaps(patched.candidates(CATEGORIES)));
+        assertEquals(ids(rebuilt.latestOnSale(10)), ids(patched.latestOnSale(10)));
+    }
+
+    @Test
+    void changesBetweenLoadAndSwapSurviveRebuild() {
+        BoardFacetIndex index = new BoardFacetIndex(BUCKETS);
+        index.rebuild(List.of(board(1, 1_000, false, List.of("토마토")), board(2, 2_000, false, List.of("상추"))));
+
+        // 적재 전에 기록 시작 → 적재한 뒤(교체 전) 들어온 변경
+        index.startRecording();
+        List<BoardSnapshot> stale = List.of(board(1, 1_000, false, List.of("토마토")), board(2, 2_000, false, List.of("상추")));
+        index.apply(deleted(1));
+        index.apply(board(2, 9_000, true, List.of("상추")));
+        index.rebuild(stale);
+        index.stopRecording();
+
+        BoardFacetIndex.Result all = index.filter(new BoardFacetIndex.Filter(null, null, null, List.of()), 0, 10);
+        assertEquals(List.of(2), ids(all.rows()));
+        assertEquals(9_000, (int) all.rows().get(0).getPrice());
+        assertEquals(Boolean.TRUE, all.rows().get(0).getSell());
+    }
+
+    @Test
+    void filtersByPriceStatusAndCategory() {
+        BoardFacetIndex index = new BoardFacetIndex(BUCKETS);
+        index.rebuild(List.of(
+                board(1, 3_000, false, List.of("토마토")),
+                board(2, 12_000, false, List.of("토마토", "상추")),
+                board(3, 12_000, true, List.of("상추")),
+                board(4, null, false, List.of("고추"))));
+        assertTrue(index.isReady());
+
+        BoardFacetIndex.Result onSale = index.filter(new BoardFacetIndex.Filter(null, null, false, List.of()), 0, 10);
+        assertEquals(List.of(4, 2, 1), ids(onSale.rows()));
+        assertEquals(Map.of("토마토", 2, "상추", 1, "고추", 1), onSale.categoryCounts());
+        // 가격 없는 게시글은 가격대에 세지 않음
+        assertEquals(List.of(
+                new BoardFacetIndex.Bucket(0, 5_000, 1),
+                new BoardFacetIndex.Bucket(5_000, 10_000, 0),
+                new BoardFacetIndex.Bucket(10_000, 30_000, 1),
+                new BoardFacetIndex.Bucket(30_000, null, 0)), onSale.priceBuckets());
+
+        BoardFacetIndex.Result lettuce = index.filter(new BoardFacetIndex.Filter(10_000, null, null, List.of("상추")), 0, 1);
+        assertEquals(List.of(3), ids(lettuce.rows()));
+        assertEquals(2, lettuce.total());
+
+        index.apply(deleted(2));
+        assertEquals(List.of(1), ids(index.filter(new BoardFacetIndex.Filter(null, null, null, List.of("토마토")), 0, 10).rows()));
+    }
+}
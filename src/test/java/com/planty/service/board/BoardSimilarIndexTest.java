@@ -0,0 +1,75 @@
+package com.planty.service.board;
+
+import com.planty.dto.board.BoardListRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.planty.service.board.BoardFacetIndexTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 비슷한 게시글 인덱스: 게시글 변경을 하나씩 반영한 이웃 목록이 전체 재구성한 목록과 같음
+class BoardSimilarIndexTest {
+
+    private static final int BOARDS = 40;
+
+    private static List<Integer> similarIds(BoardSimilarIndex index, int boardId) {
+        return index.similar(boardId).stream().map(BoardListRow::getId).toList();
+    }
+
+    @Test
+    void patchedNeighborsMatchRebuild() {
+        for (long seed = 1; seed <= 5; seed++) {
+            List<BoardSnapshot> changes = randomChanges(seed, BOARDS, 300);
+
+            // 역색인 상한에 걸리지 않는 크기 (상한으로 빠진 게시글은 재구성 때만 다시 들어옴)
+            BoardSimilarIndex patched = new BoardSimilarIndex(3, 1_000);
+            patched.rebuild(List.of());
+            changes.forEach(patched::apply);
+
+            BoardSimilarIndex rebuilt = new BoardSimilarIndex(3, 1_000);
+            rebuilt.rebuild(finalState(changes));
+
+            for (int id = 1; id <= BOARDS; id++) {
+                assertEquals(similarIds(rebuilt, id), similarIds(patched, id), "seed=" + seed + " boardId=" + id);
+            }
+        }
+    }
+
+    @Test
+    void ranksOnSaleBoardsBySharedCategoriesAndPrice() {
+        BoardSimilarIndex index = new BoardSimilarIndex(2, 1_000);
+        index.rebuild(List.of(
+                board(1, 10_000, false, List.of("토마토", "상추")),
+                board(2, 10_000, false, List.of("토마토", "상추")),
+                board(3, 5_000, false, List.of("토마토")),
+                board(4, 10_000, true, List.of("토마토", "상추")),
+                board(5, 10_000, false, List.of("감자"))));
+
+        // 판매완료(4)와 카테고리가 겹치지 않는 게시글(5)은 제외
+        assertEquals(List.of(2, 3), similarIds(index, 1));
+        assertEquals(List.of(), similarIds(index, 5));
+
+        // 판매완료되면 다른 게시글의 이웃에서 빠짐
+        index.apply(board(2, 10_000, true, List.of("토마토", "상추")));
+        assertEquals(List.of(3), similarIds(index, 1));
+
+        index.apply(deleted(3));
+        assertEquals(List.of(), similarIds(index, 1));
+        assertEquals(List.of(1), similarIds(index, 2));
+    }
+
+    @Test
+    void postingsKeepMostRecentBoards() {
+        BoardSimilarIndex index = new BoardSimilarIndex(5, 2);
+        index.rebuild(List.of(
+                board(1, 1_000, false, List.of("고추")),
+                board(2, 1_000, false, List.of("고추")),
+                board(3, 1_000, false, List.of("고추")),
+                board(4, 1_000, false, List.of("고추"))));
+
+        // 카테고리당 최근 2개(3, 4)만 후보
+        assertEquals(List.of(4, 3), similarIds(index, 1));
+        assertEquals(List.of(3), similarIds(index, 4));
+    }
+}
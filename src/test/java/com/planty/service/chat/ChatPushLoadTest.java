@@ -0,0 +1,264 @@
+package com.planty.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.planty.config.ChatRoomHandshakeInterceptor;
+import com.planty.config.ChatRoomWebSocketHandler;
+import com.planty.config.jwt.JwtProvider;
+import com.planty.dto.chat.ChatMessageDto;
+import com.planty.repository.chat.ChatUserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.websocket.server.WsContextListener;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 채팅 웹소켓 부하 테스트 (./gradlew benchmark 로 실행, 소켓 수는 -Dchat.load.sockets=5000 등으로 조정)
+// 내장 톰캣에 /ws/chats 만 띄우고 2명씩 채팅방을 만들어 전송 → 상대 수신까지 지연 측정
+// 느린 세션 하나가 보내는 쪽/다른 세션을 막지 않고 끊기는지도 확인
+@Tag("benchmark")
+class ChatPushLoadTest {
+
+    private static final int SOCKETS = Integer.getInteger("chat.load.sockets", 2000);
+    private static final int ROUNDS = 5;
+
+    private static Tomcat tomcat;
+    private static AnnotationConfigWebApplicationContext wac;
+    private static int port;
+
+    static ChatSessionRegistry registry;
+    static ChatPushService pushService;
+    static ObjectMapper objectMapper;
+    static JwtProvider jwtProvider;
+    static ChatUserRepository chatUserRepository;
+
+    @Configuration
+    @EnableWebSocket
+    static class WsConfig implements WebSocketConfigurer {
+        @Override
+        public void registerWebSocketHandlers(WebSocketHandlerRegistry r) {
+            ChatRoomWebSocketHandler handler = new ChatRoomWebSocketHandler(
+                    registry, pushService, mock(ChatService.class), chatUserRepository, objectMapper);
+            r.addHandler(handler, "/ws/chats")
+                    .addInterceptors(new ChatRoomHandshakeInterceptor(jwtProvider))
+                    .setAllowedOrigins("*");
+        }
+    }
+
+    @BeforeAll
+    static void startServer() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        registry = new ChatSessionRegistry(5000, 512 * 1024, 8);
+        pushService = new ChatPushService(registry, objectMapper, 4, 100_000);
+
+        // 토큰 = 사용자 id
+        jwtProvider = mock(JwtProvider.class);
+        when(jwtProvider.parseClaims(anyString())).thenAnswer(inv -> Jwts.claims().setSubject(inv.getArgument(0)));
+        when(jwtProvider.getUid(any(Claims.class))).thenAnswer(inv -> Integer.valueOf(((Claims) inv.getArgument(0)).getSubject()));
+        chatUserRepository = mock(ChatUserRepository.class);
+        when(chatUserRepository.existsByChatIdAndUserId(anyLong(), anyInt())).thenReturn(true);
+
+        Path base = Files.createTempDirectory("chat-load");
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(base.toString());
+        tomcat.setPort(0);
+        tomcat.getConnector().setProperty("maxConnections", String.valueOf(SOCKETS * 2 + 100));
+        tomcat.getConnector().setProperty("maxThreads", "200");
+
+        Context ctx = tomcat.addContext("", base.toString());
+        ctx.addApplicationListener(WsContextListener.class.getName());
+        wac = new AnnotationConfigWebApplicationContext();
+        wac.register(WsConfig.class);
+        Tomcat.addServlet(ctx, "dispatcher", new DispatcherServlet(wac)).setLoadOnStartup(1);
+        ctx.addServletMappingDecoded("/", "dispatcher");
+
+        tomcat.start();
+        port = tomcat.getConnector().getLocalPort();
+    }
+
+    @AfterAll
+    static void stopServer() throws Exception {
+        pushService.shutdown();
+        registry.shutdown();
+        wac.close();
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    // 수신 메시지 중 type=message 만 세는 클라이언트
+    static class Client extends TextWebSocketHandler {
+        final AtomicInteger received = new AtomicInteger();
+        volatile CountDownLatch latch;
+
+        @Override
+        protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+            if (message.getPayload().startsWith("{\"type\":\"message\"")) {
+                received.incrementAndGet();
+                CountDownLatch l = latch;
+                if (l != null) l.countDown();
+            }
+        }
+    }
+
+    private static WebSocketSession connect(StandardWebSocketClient client, Client handler, int userId) throws Exception {
+        // 토큰은 URL 이 아니라 서브프로토콜로
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.setSecWebSocketProtocol(List.of(ChatRoomHandshakeInterceptor.BEARER_PROTOCOL, String.valueOf(userId)));
+        return client.execute(handler, headers, URI.create("ws://localhost:" + port + "/ws/chats"))
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static ChatMessageDto message(long chatId, long seq, int senderId, String content) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ChatMessageDto(System.nanoTime(), chatId, seq, senderId, content, false, null, now, now);
+    }
+
+    @Test
+    void fanOutToThousandsOfSockets() throws Exception {
+        StandardWebSocketClient wsClient = new StandardWebSocketClient();
+        List<Client> clients = new ArrayList<>(SOCKETS);
+        List<WebSocketSession> sessions = new ArrayList<>(SOCKETS);
+
+        long connectStart = System.nanoTime();
+        for (int userId = 0; userId < SOCKETS; userId++) {
+            Client c = new Client();
+            clients.add(c);
+            sessions.add(connect(wsClient, c, userId));
+        }
+        double connectMs = (System.nanoTime() - connectStart) / 1e6;
+        waitUntil(() -> registry.getStats().get("sessions").equals(SOCKETS));
+
+        // 사용자 2k, 2k+1 이 채팅방 k
+        int rooms = SOCKETS / 2;
+        long[] perRound = new long[ROUNDS];
+        for (int r = 0; r < ROUNDS; r++) {
+            CountDownLatch latch = new CountDownLatch(rooms * 2);
+            clients.forEach(c -> c.latch = latch);
+
+            long start = System.nanoTime();
+            for (int k = 0; k < rooms; k++) {
+                pushService.push(message(k, r + 1, 2 * k, "hello " + r), List.of(2 * k, 2 * k + 1));
+            }
+            assertTrue(latch.await(60, TimeUnit.SECONDS), "모든 참여자가 메시지를 받아야 함");
+            perRound[r] = System.nanoTime() - start;
+        }
+
+        int total = clients.stream().mapToInt(c -> c.received.get()).sum();
+        assertEquals(rooms * 2 * ROUNDS, total);
+        Map<String, Object> stats = pushService.getStats();
+        assertEquals(0L, stats.get("dropped"));
+        assertEquals(0L, stats.get("rejected"));
+
+        System.out.printf("[chat ws load] sockets=%d connect=%.0fms rounds(ms)=%s avg=%.1fms stats=%s%n",
+                SOCKETS, connectMs,
+                Arrays.stream(perRound).mapToObj(n -> String.format("%.1f", n / 1e6)).toList(),
+                Arrays.stream(perRound).average().orElse(0) / 1e6, stats);
+
+        for (WebSocketSession s : sessions) s.close();
+        waitUntil(() -> registry.getStats().get("sessions").equals(0));
+    }
+
+    @Test
+    void slowSessionIsDroppedWithoutBlockingSender() throws Exception {
+        // 전송이 끝나지 않는 세션 (네트워크가 막힌 클라이언트), 보내는 쪽은 한 스레드뿐
+        CountDownLatch never = new CountDownLatch(1);
+        WebSocketSession stuck = stuckSession("stuck", never);
+        WebSocketSession healthy = mock(WebSocketSession.class);
+        when(healthy.getId()).thenReturn("healthy");
+        when(healthy.getAttributes()).thenReturn(new ConcurrentHashMap<>(Map.of(ChatSessionRegistry.ATTR_USER_ID, -2)));
+        when(healthy.isOpen()).thenReturn(true);
+
+        ChatSessionRegistry small = new ChatSessionRegistry(10_000, 4 * 1024, 2);
+        try {
+            small.register(stuck);
+            small.register(healthy);
+
+            TextMessage big = new TextMessage("x".repeat(1024));
+            TextMessage chat = new TextMessage("y".repeat(100));
+            long start = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                small.send(stuck, big);
+                small.send(healthy, chat);
+            }
+            double elapsedMs = (System.nanoTime() - start) / 1e6;
+
+            assertTrue(elapsedMs < 100, "보내는 쪽은 기다리지 않아야 함: " + elapsedMs + "ms");
+            assertEquals(1L, small.getStats().get("dropped"));
+            assertNull(small.get("stuck"));
+            verify(stuck).close(CloseStatus.SESSION_NOT_RELIABLE);
+
+            // 막힌 세션과 상관없이 다른 세션은 모두 전송됨
+            verify(healthy, timeout(2000).times(10)).sendMessage(chat);
+        } finally {
+            never.countDown();
+            small.shutdown();
+        }
+    }
+
+    @Test
+    void sessionStuckPastTimeLimitIsDropped() throws Exception {
+        CountDownLatch never = new CountDownLatch(1);
+        WebSocketSession stuck = stuckSession("stuck", never);
+
+        ChatSessionRegistry small = new ChatSessionRegistry(200, 1024 * 1024, 1);
+        try {
+            small.register(stuck);
+            small.send(stuck, new TextMessage("first"));
+            Thread.sleep(300);
+            small.send(stuck, new TextMessage("second"));
+
+            assertEquals(1L, small.getStats().get("dropped"));
+            assertNull(small.get("stuck"));
+        } finally {
+            never.countDown();
+            small.shutdown();
+        }
+    }
+
+    private static WebSocketSession stuckSession(String id, CountDownLatch never) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getAttributes()).thenReturn(new ConcurrentHashMap<>(Map.of(ChatSessionRegistry.ATTR_USER_ID, -1)));
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(inv -> {
+            never.await();
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+
+    private static void waitUntil(Callable<Boolean> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.call()) {
+            if (System.currentTimeMillis() > deadline) fail("timeout");
+            Thread.sleep(20);
+        }
+    }
+}
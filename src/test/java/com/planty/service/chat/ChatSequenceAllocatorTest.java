@@ -0,0 +1,98 @@
+package com.planty.service.chat;
+
+import com.planty.entity.chat.Chat;
+import com.planty.repository.chat.ChatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 채팅방 순번 발급: 롤백 후 이어 받기, 동시 발급 시 중복/빈 번호 없음
+@DataJpaTest
+@Import(ChatSequenceAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+class ChatSequenceAllocatorTest {
+
+    @Autowired
+    private ChatSequenceAllocator allocator;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Long chatId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        Chat chat = new Chat();
+        chat.setCreatedAt(LocalDateTime.now());
+        chat.setModifiedAt(LocalDateTime.now());
+        chatId = chatRepository.save(chat).getId();
+    }
+
+    @Test
+    void rolledBackNumberIsReissued() {
+        assertEquals(1L, tx.execute(s -> allocator.next(chatId)));
+
+        Long rolledBack = tx.execute(s -> {
+            long seq = allocator.next(chatId);
+            s.setRollbackOnly();
+            return seq;
+        });
+        assertEquals(2L, rolledBack);
+
+        // 롤백된 번호를 다시 받아 빈 번호가 생기지 않음
+        assertEquals(2L, tx.execute(s -> allocator.next(chatId)));
+        assertEquals(3L, tx.execute(s -> allocator.next(chatId)));
+    }
+
+    @Test
+    void requiresSurroundingTransaction() {
+        assertThrows(Exception.class, () -> allocator.next(chatId));
+    }
+
+    @Test
+    void concurrentSendersGetDistinctContiguousNumbers() throws Exception {
+        int threads = 8;
+        int perThread = 25;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    List<Long> got = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) got.add(tx.execute(s -> allocator.next(chatId)));
+                    return got;
+                }));
+            }
+            Set<Long> all = new TreeSet<>();
+            for (Future<List<Long>> f : futures) all.addAll(f.get(30, TimeUnit.SECONDS));
+
+            assertEquals(threads * perThread, all.size());
+            assertEquals(1L, ((TreeSet<Long>) all).first());
+            assertEquals((long) threads * perThread, ((TreeSet<Long>) all).last());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.planty.service.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로그인 요청 제한: 키별 예산 분리 (잠금 스트라이프를 공유해도), 가용성 확인 예산 분리, 키 수 상한, 쉰 버킷 정리
+class LoginRateLimiterTest {
+
+    private static MockHttpServletRequest from(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    @Test
+    void userBudgetsAreIsolatedEvenOnSameLockStripe() {
+        // 스트라이프 1개 = 모든 키가 같은 잠금
+        LoginRateLimiter limiter = new LoginRateLimiter(1, 100, 100, 1, 5, 1, 100, 1, false);
+
+        for (int i = 0; i < 5; i++) assertTrue(limiter.tryAcquire(from("10.0.0.1"), "alice"));
+        assertFalse(limiter.tryAcquire(from("10.0.0.1"), "alice"));
+
+        // 다른 아이디는 영향 없음
+        for (int i = 0; i < 5; i++) assertTrue(limiter.tryAcquire(from("10.0.0.1"), "bob"));
+        assertFalse(limiter.tryAcquire(from("10.0.0.1"), "bob"));
+    }
+
+    @Test
+    void ipBudgetsAreIsolated() {
+        LoginRateLimiter limiter = new LoginRateLimiter(1, 100, 3, 1, 100, 1, 100, 1, false);
+
+        for (int i = 0; i < 3; i++) assertTrue(limiter.tryAcquire(from("10.0.0.1"), null));
+        assertFalse(limiter.tryAcquire(from("10.0.0.1"), null));
+
+        assertTrue(limiter.tryAcquire(from("10.0.0.2"), null));
+    }
+
+    @Test
+    void availabilityBudgetIsSeparateFromLogin() {
+        LoginRateLimiter limiter = new LoginRateLimiter(1, 100, 100, 1, 100, 1, 2, 1, false);
+
+        assertTrue(limiter.tryAcquireAvailability(from("10.0.0.1")));
+        assertTrue(limiter.tryAcquireAvailability(from("10.0.0.1")));
+        assertFalse(limiter.tryAcquireAvailability(from("10.0.0.1")));
+
+        // 로그인 예산은 그대로
+        assertTrue(limiter.tryAcquire(from("10.0.0.1"), "alice"));
+        assertTrue(limiter.tryAcquireAvailability(from("10.0.0.2")));
+    }
+
+    @Test
+    void newKeysAreRejectedWhenFullAndAcceptedAfterSweep() throws InterruptedException {
+        // 분당 6천만 = 5토큰이 5마이크로초 안에 다시 참
+        LoginRateLimiter limiter = new LoginRateLimiter(16, 2, 5, 60_000_000, 5, 60_000_000, 5, 60_000_000, false);
+
+        assertTrue(limiter.tryAcquire(from("10.0.0.1"), null));
+        assertTrue(limiter.tryAcquire(from("10.0.0.2"), null));
+        assertFalse(limiter.tryAcquire(from("10.0.0.3"), null));
+        assertEquals(1L, limiter.getStats().get("overflowed"));
+
+        Thread.sleep(5);
+        limiter.sweep();
+        assertEquals(0, limiter.getStats().get("ipKeys"));
+        assertTrue(limiter.tryAcquire(from("10.0.0.3"), null));
+    }
+}
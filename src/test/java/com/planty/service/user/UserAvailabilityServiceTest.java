@@ -0,0 +1,50 @@
+package com.planty.service.user;
+
+import com.planty.repository.user.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// 아이디/닉네임 가용성: 적재 중 등록도 새 필터에 남음 (사용 중인 값을 "사용 가능"으로 답하지 않음)
+class UserAvailabilityServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserAvailabilityService service = new UserAvailabilityService(userRepository, 1_000, 0.01);
+
+    @Test
+    void registrationsDuringLoadReachNewFilters() {
+        // DB 조회와 필터 교체 사이에 가입/닉네임 변경
+        when(userRepository.findAllUserIds()).thenAnswer(inv -> {
+            service.registerUserId("late-user");
+            return List.of("alice");
+        });
+        when(userRepository.findAllNicknames()).thenAnswer(inv -> {
+            service.registerNickname("늦은닉네임");
+            return List.of("앨리스");
+        });
+        when(userRepository.existsByUserId(anyString())).thenAnswer(inv -> List.of("alice", "late-user").contains(inv.getArgument(0)));
+        when(userRepository.existsByNickname(anyString())).thenAnswer(inv -> List.of("앨리스", "늦은닉네임").contains(inv.getArgument(0)));
+
+        service.load();
+
+        assertFalse(service.isUserIdAvailable("alice"));
+        assertFalse(service.isUserIdAvailable("late-user"));
+        assertFalse(service.isNicknameAvailable("늦은닉네임"));
+        assertTrue(service.isUserIdAvailable("nobody"));
+    }
+
+    @Test
+    void registrationsAfterLoadGoToCurrentFilters() {
+        when(userRepository.findAllUserIds()).thenReturn(List.of());
+        when(userRepository.findAllNicknames()).thenReturn(List.of());
+        when(userRepository.existsByUserId("bob")).thenReturn(true);
+        service.load();
+
+        service.registerUserId("bob");
+        assertFalse(service.isUserIdAvailable("bob"));
+        verify(userRepository).existsByUserId("bob");
+    }
+}
@@ -0,0 +1,105 @@
+package com.planty.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 여러 장 업로드 벤치마크 (./gradlew benchmark 로 실행)
+// 재배일지 최대치(10MB x 9장) 기준 순차 save() 와 병렬 saveAll() 비교
+@Tag("benchmark")
+class LocalStorageServiceBenchmarkTest {
+
+    private static final int FILES = 9;
+    private static final int FILE_SIZE = 10 * 1024 * 1024;
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalStorageService storage;
+    private List<MultipartFile> files;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalStorageService(uploadDir.toString(), 4, 64);
+
+        Random random = new Random(42);
+        files = new ArrayList<>();
+        for (int i = 0; i < FILES; i++) {
+            byte[] bytes = new byte[FILE_SIZE];
+            random.nextBytes(bytes);
+            files.add(new MockMultipartFile("images", "img" + i + ".jpg", "image/jpeg", bytes));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+    }
+
+    @Test
+    void parallelBatchVersusSequential() throws IOException {
+        // 워밍업
+        sequential();
+        storage.saveAll(files, "warmup");
+
+        long seqNanos = 0;
+        long parNanos = 0;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            sequential();
+            seqNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<String> urls = storage.saveAll(files, "parallel");
+            parNanos += System.nanoTime() - start;
+            assertEquals(FILES, urls.size());
+        }
+
+        System.out.printf("[upload benchmark] %d x %dMB sequential=%.1fms parallel=%.1fms%n",
+                FILES, FILE_SIZE / (1024 * 1024), seqNanos / 1e6 / ROUNDS, parNanos / 1e6 / ROUNDS);
+    }
+
+    @Test
+    void failedBatchLeavesNoFiles() throws IOException {
+        List<MultipartFile> batch = new ArrayList<>(files.subList(0, 3));
+        batch.add(new MockMultipartFile("images", "broken.jpg", "image/jpeg", new byte[]{1}) {
+            @Override
+            public java.io.InputStream getInputStream() throws IOException {
+                throw new IOException("broken");
+            }
+        });
+
+        try {
+            storage.saveAll(batch, "failed");
+        } catch (IOException expected) {
+            // 정상
+        }
+
+        Path dir = uploadDir.resolve("failed");
+        try (var listing = Files.list(dir)) {
+            assertTrue(listing.findAny().isEmpty());
+        }
+    }
+
+    // 기존 방식 (컨트롤러에서 한 장씩 저장)
+    private void sequential() throws IOException {
+        for (MultipartFile f : files) {
+            storage.save(f, "sequential");
+        }
+    }
+}